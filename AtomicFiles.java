@@ -0,0 +1,56 @@
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Клас AtomicFiles містить допоміжні методи для атомарної заміни файлів результату.
+ *
+ * <p>Файл записується у тимчасовий файл у тому ж каталозі, а після завершення запису
+ * перейменовується на файл результату. Читачі бачать або попередній, або новий вміст
+ * повністю, а при збої під час запису попередній файл залишається цілим.</p>
+ */
+public class AtomicFiles {
+    private static final AtomicLong TEMPORARY_FILE_COUNTER = new AtomicLong();
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Створює порожній тимчасовий файл поруч із файлом результату.
+     *
+     * @param target Шлях до файлу результату
+     * @return Шлях до створеного тимчасового файлу
+     * @throws IOException Якщо файл не вдалося створити
+     */
+    static Path createTemporaryFile(Path target) throws IOException {
+        // Files.createTempFile обмежує права доступу власником, тому файл створюється з правами за замовчуванням
+        String prefix = target.getFileName() + "." + ProcessHandle.current().pid() + ".";
+        while (true) {
+            Path temporaryFile = target.resolveSibling(prefix + TEMPORARY_FILE_COUNTER.incrementAndGet() + ".tmp");
+            try {
+                return Files.createFile(temporaryFile);
+            } catch (FileAlreadyExistsException existsException) {
+                // файл залишився від іншого запису, пробуємо наступну назву
+            }
+        }
+    }
+
+    /**
+     * Замінює файл результату тимчасовим файлом, атомарно, якщо файлова система це підтримує.
+     *
+     * @param temporaryFile Записаний тимчасовий файл
+     * @param target Шлях до файлу результату
+     * @throws IOException Якщо файл не вдалося перейменувати
+     */
+    static void moveIntoPlace(Path temporaryFile, Path target) throws IOException {
+        try {
+            Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException atomicMoveException) {
+            Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -1,9 +1,13 @@
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.ArrayList;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.util.Locale;
 
 /**
  * Загальний клас BasicDataOperation координує роботу різних структур даних.
@@ -26,41 +30,400 @@ import java.util.Queue;
  * java BasicDataOperation "-2147001234" list
  * java BasicDataOperation "-2147001234" queue  
  * java BasicDataOperation "-2147001234" set
+ * java BasicDataOperation "-2147001234" int
  * java BasicDataOperation "-2147001234" all
+ * java -Danalysis.concurrent=true BasicDataOperation "-2147001234"
+ * java -Dexternal.memory.mb=512 -Dexternal.fanin=64 BasicDataOperation --external-sort list/int.data
+ * java -Dbatch.output=results.tsv BasicDataOperation --batch queries.data
+ * cat queries.data | java BasicDataOperation --batch -
+ * java BasicDataOperation --serve 7070
+ * java BasicDataOperation --serve unix:/tmp/int-data.sock list/int.data
+ * java BasicDataOperation --set-ops list/int.data other/int.data
+ * java BasicDataOperation --typed list/LocalDateTime.data 2025-10-03T01:23:14Z
+ * java BasicDataOperation --typed all
+ * java BasicDataOperation --incremental list/int.data -2147001234
  * }
  * </pre>
+ * 
+ * <p>Другий аргумент обирає режим аналізу ({@code list}, {@code queue}, {@code set},
+ * {@code int} або {@code all}, за замовчуванням {@code all}). Масив Integer завантажується
+ * лише для режимів, що його використовують, а кожен клас обробки будує свої колекції під час
+ * першого звернення до них; час побудови записується як окрема операція в {@link PerformanceTracker}.</p>
+ * 
+ * <p>Кожна структура даних отримує власну копію завантаженого масиву, тому сортування
+ * в одному класі обробки не впливає на вимірювання в інших. З властивістю
+ * {@code analysis.concurrent=true} класи обробки виконуються паралельно на пулі з
+ * {@code analysis.threads} потоків, а їхні звіти виводяться в тому ж порядку, що й
+ * при послідовному виконанні.</p>
  */
 public class BasicDataOperation {
     static final String PATH_TO_DATA_FILE = "list/int.data";
 
+    /**
+     * Режим аналізу, що визначає, які класи обробки виконуються.
+     */
+    enum AnalysisMode {
+        LIST, QUEUE, SET, INT, ALL;
+
+        /**
+         * @param value Назва режиму з командного рядка
+         * @return Режим або {@code null}, якщо назва невідома
+         */
+        static AnalysisMode fromArgument(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        boolean usesBoxedArray() {
+            return this != INT;
+        }
+    }
+
     Integer integerValueToSearch;
     Integer[] intArray;
+    private AnalysisMode mode = AnalysisMode.ALL;
 
     private static final String SEPARATOR = "\n" + "=".repeat(80) + "\n";
-    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> \n" +
+    private static final String SECTION_SEPARATOR = "\n" + "~".repeat(60) + "\n";
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> [list|queue|set|int|all]\n" +
 "Приклад:\n" +
-"  java BasicDataOperation \"2025-01-02T20:42:25Z\"";
+"  java BasicDataOperation \"-2147001234\"\n" +
+"  java BasicDataOperation \"-2147001234\" set\n" +
+"Зовнішнє сортування файлу, більшого за пам'ять:\n" +
+"  java BasicDataOperation --external-sort [вхідний-файл] [файл-результату]\n" +
+"Пакетний пошук значень з файлу або стандартного введення (-):\n" +
+"  java BasicDataOperation --batch <файл-запитів|-> [файл-даних]\n" +
+"Сервер запитів на локальному порту TCP або Unix-сокеті:\n" +
+"  java BasicDataOperation --serve [порт|unix:шлях] [файл-даних]\n" +
+"Перетин та об'єднання значень двох файлів даних:\n" +
+"  java BasicDataOperation --set-ops <файл-даних> <інший-файл-даних>\n" +
+"Обробка файлу даних будь-якого типу з каталогу list/ (або всіх файлів):\n" +
+"  java BasicDataOperation --typed <файл-даних|all> [пошукове-значення]\n" +
+"Інкрементна обробка рядків, дописаних у файл даних після попереднього запуску:\n" +
+"  java BasicDataOperation --incremental [файл-даних] [пошукове-значення]";
+    private static final String EXTERNAL_SORT_COMMAND = "--external-sort";
+    private static final String BATCH_COMMAND = "--batch";
+    private static final String SERVE_COMMAND = "--serve";
+    private static final String SET_OPERATIONS_COMMAND = "--set-ops";
+    private static final String TYPED_COMMAND = "--typed";
+    private static final String INCREMENTAL_COMMAND = "--incremental";
 
     public static void main(String[] args) {
-        if (args.length != 1) {
+        if (args.length > 0 && EXTERNAL_SORT_COMMAND.equals(args[0])) {
+            runExternalSort(args);
+            return;
+        }
+        if (args.length > 0 && BATCH_COMMAND.equals(args[0])) {
+            runBatchQueries(args);
+            return;
+        }
+        if (args.length > 0 && SERVE_COMMAND.equals(args[0])) {
+            runQueryServer(args);
+            return;
+        }
+        if (args.length > 0 && SET_OPERATIONS_COMMAND.equals(args[0])) {
+            runBitmapSetOperations(args);
+            return;
+        }
+        if (args.length > 0 && TYPED_COMMAND.equals(args[0])) {
+            runTypedPipeline(args);
+            return;
+        }
+        if (args.length > 0 && INCREMENTAL_COMMAND.equals(args[0])) {
+            runIncrementalUpdate(args);
+            return;
+        }
+
+        if (args.length < 1 || args.length > 2) {
             System.out.println(USAGE_MESSAGE);
             return;
         }
 
         String searchValue = args[0];
 
-        // Валідація введеного значення дати
+        // Валідація введеного значення
         try {
             Integer.parseInt(searchValue);
-        } catch (Exception e) {
-            System.out.println("Помилка: Невірний формат дати-часу. Використовуйте ISO формат (наприклад: -2147001234)");
+        } catch (NumberFormatException e) {
+            System.out.println("Помилка: Невірний формат цілого числа int (наприклад: -2147001234)");
+            return;
+        }
+
+        AnalysisMode mode = args.length > 1 ? AnalysisMode.fromArgument(args[1]) : AnalysisMode.ALL;
+        if (mode == null) {
+            System.out.println("Помилка: Невідомий режим аналізу '" + args[1] + "'");
+            System.out.println(USAGE_MESSAGE);
             return;
         }
 
         BasicDataOperation coordinator = new BasicDataOperation();
+        coordinator.mode = mode;
         coordinator.executeOperations(args);
     }
 
+    /**
+     * Упорядковує файл даних зовнішнім сортуванням без завантаження всього файлу в пам'ять.
+     * 
+     * <p>Бюджет пам'яті задається властивістю {@code external.memory.mb} (за замовчуванням
+     * чверть максимального розміру купи), кількість входів злиття — {@code external.fanin},
+     * каталог тимчасових файлів — {@code external.tmpdir} (за замовчуванням каталог результату).</p>
+     * 
+     * @param args Аргументи командного рядка: команда, вхідний файл та файл результату
+     */
+    private static void runExternalSort(String[] args) {
+        if (args.length > 3) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        String inputPath = args.length > 1 ? args[1] : PATH_TO_DATA_FILE;
+        String outputPath = args.length > 2 ? args[2] : inputPath + ".sorted";
+
+        long defaultBudgetMb = Math.max(Runtime.getRuntime().maxMemory() / 4 / (1 << 20), 1);
+        long memoryBudgetBytes = Long.getLong("external.memory.mb", defaultBudgetMb) << 20;
+        int mergeFanIn = Integer.getInteger("external.fanin", 64);
+        Path outputDirectory = Path.of(outputPath).toAbsolutePath().getParent();
+        Path temporaryDirectory = Path.of(System.getProperty("external.tmpdir", outputDirectory.toString()));
+
+        System.out.println("🗂 ЗОВНІШНЄ СОРТУВАННЯ: " + inputPath + " -> " + outputPath);
+        System.out.println("Бюджет пам'яті: " + (memoryBudgetBytes >> 20) + " МіБ, входів злиття: " + mergeFanIn);
+
+        ExternalIntSorter sorter = new ExternalIntSorter(memoryBudgetBytes, mergeFanIn, temporaryDirectory);
+        long startTime = System.nanoTime();
+        try {
+            ExternalIntSorter.Result result = sorter.sort(inputPath, outputPath);
+            PerformanceTracker.displayOperationTime(startTime, "зовнішнє сортування");
+            System.out.println("Упорядковано значень: " + result.valueCount + ", серій: " + result.initialRuns
+                    + ", проходів злиття: " + result.mergePasses);
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("❌ Помилка зовнішнього сортування: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Відповідає на пакет пошукових запитів за одне завантаження та впорядкування даних.
+     * 
+     * <p>Результати виводяться рядками {@code значення<TAB>позиція} у порядку запитів
+     * у стандартний вивід або у файл з властивості {@code batch.output}. Якщо результати
+     * виводяться у стандартний вивід, підсумок друкується в потік помилок, щоб не змішуватися
+     * з результатами. Спосіб обробки задає властивість {@code batch.strategy}
+     * ({@code auto}, {@code merge} або {@code search}).</p>
+     * 
+     * @param args Аргументи командного рядка: команда, джерело запитів та файл даних
+     */
+    private static void runBatchQueries(String[] args) {
+        if (args.length < 2 || args.length > 3) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        String querySource = args[1];
+        String dataPath = args.length > 2 ? args[2] : PATH_TO_DATA_FILE;
+        String outputPath = System.getProperty("batch.output");
+        PrintStream report = outputPath == null ? System.err : System.out;
+
+        try {
+            long loadStart = System.nanoTime();
+            int[] sortedValues = DataFileHandler.loadIntArrayFromFile(dataPath);
+            SortedResultCache.sortInPlace(sortedValues, dataPath);
+            int[] queries = BatchQueryProcessor.readQueries(querySource);
+            long loadTime = System.nanoTime() - loadStart;
+
+            BatchQueryProcessor processor = new BatchQueryProcessor(sortedValues);
+            BatchQueryProcessor.Strategy strategy = processor.resolve(BatchQueryProcessor.Strategy.fromSystemProperty(),
+                    queries.length);
+
+            long queryStart = System.nanoTime();
+            long foundCount;
+            if (outputPath == null) {
+                // обгортка лише скидається: закриття закрило б і System.out процесу
+                Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+                foundCount = processor.answer(queries, strategy, output);
+                output.flush();
+            } else {
+                try (Writer output = new BufferedWriter(new FileWriter(outputPath, StandardCharsets.UTF_8), 1 << 16)) {
+                    foundCount = processor.answer(queries, strategy, output);
+                }
+            }
+            long queryTime = System.nanoTime() - queryStart;
+
+            report.println("📦 ПАКЕТНИЙ ПОШУК: " + queries.length + " запитів, " + sortedValues.length + " значень даних");
+            report.println("Спосіб обробки: " + strategy.name().toLowerCase(Locale.ROOT));
+            report.println("Знайдено: " + foundCount + ", відсутні: " + (queries.length - foundCount));
+            report.println("Завантаження та впорядкування: " + loadTime / 1_000_000 + " мс, пошук і виведення: "
+                    + queryTime / 1_000_000 + " мс");
+            report.printf("Пропускна здатність: %.0f запитів/с%n", queries.length / Math.max(queryTime / 1e9, 1e-9));
+        } catch (IOException | NumberFormatException e) {
+            report.println("❌ Помилка пакетного пошуку: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Запускає сервер запитів, що завантажує дані один раз і відповідає на запити клієнтів.
+     * 
+     * <p>Адреса за замовчуванням — порт з властивості {@code server.port} (7070) на локальному
+     * інтерфейсі; кількість одночасно обслуговуваних клієнтів задає {@code server.threads}.</p>
+     * 
+     * @param args Аргументи командного рядка: команда, адреса та файл даних
+     */
+    private static void runQueryServer(String[] args) {
+        if (args.length > 3) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        String address = args.length > 1 ? args[1] : System.getProperty("server.port", "7070");
+        String dataPath = args.length > 2 ? args[2] : PATH_TO_DATA_FILE;
+
+        try {
+            QueryServer server = new QueryServer(DataFileHandler.loadIntArrayFromFile(dataPath), dataPath);
+            server.serve(QueryServer.parseAddress(address), Integer.getInteger("server.threads", 16));
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("❌ Помилка сервера запитів: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Обчислює перетин та об'єднання множин значень двох файлів даних за допомогою
+     * стиснутих бітових множин {@link IntBitmapSet}.
+     * 
+     * @param args Аргументи командного рядка: команда та два файли даних
+     */
+    private static void runBitmapSetOperations(String[] args) {
+        if (args.length != 3) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        int[] firstValues = DataFileHandler.loadIntArrayFromFile(args[1]);
+        int[] secondValues = DataFileHandler.loadIntArrayFromFile(args[2]);
+
+        System.out.println("🧮 ОПЕРАЦІЇ НАД МНОЖИНАМИ: " + args[1] + " та " + args[2]);
+        IntBitmapSet firstSet = PerformanceTracker.measure("IntBitmapSet", OperationType.CONSTRUCTION,
+                "побудова IntBitmapSet з " + args[1], () -> IntBitmapSet.of(firstValues));
+        IntBitmapSet secondSet = PerformanceTracker.measure("IntBitmapSet", OperationType.CONSTRUCTION,
+                "побудова IntBitmapSet з " + args[2], () -> IntBitmapSet.of(secondValues));
+        IntBitmapSet intersection = PerformanceTracker.measure("IntBitmapSet", OperationType.SET_OPERATION,
+                "перетин IntBitmapSet", () -> firstSet.and(secondSet));
+        IntBitmapSet union = PerformanceTracker.measure("IntBitmapSet", OperationType.SET_OPERATION,
+                "об'єднання IntBitmapSet", () -> firstSet.or(secondSet));
+
+        describeBitmapSet(args[1], firstSet);
+        describeBitmapSet(args[2], secondSet);
+        describeBitmapSet("перетин", intersection);
+        describeBitmapSet("об'єднання", union);
+
+        PerformanceTracker.printSummary();
+    }
+
+    /**
+     * Виконує завантаження, впорядкування, пошук та визначення граничних значень для файлу
+     * даних довільного типу або для всіх файлів каталогу даних.
+     * 
+     * <p>Тип визначається за назвою файлу; без пошукового значення шукається перше значення файлу.</p>
+     * 
+     * @param args Аргументи командного рядка: команда, файл даних або {@code all} та пошукове значення
+     */
+    private static void runTypedPipeline(String[] args) {
+        if (args.length < 2 || args.length > 3 || ("all".equals(args[1]) && args.length > 2)) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        String[] dataPaths = "all".equals(args[1]) ? TypedDataPipeline.dataFiles() : new String[] { args[1] };
+        String searchText = args.length > 2 ? args[2] : null;
+
+        for (String dataPath : dataPaths) {
+            try {
+                new TypedDataPipeline(dataPath).run(searchText);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                System.out.println("❌ Помилка обробки " + dataPath + ": " + e.getMessage());
+            }
+            System.out.println(SECTION_SEPARATOR);
+        }
+        PerformanceTracker.printSummary();
+    }
+
+    /**
+     * Обробляє лише рядки, дописані у файл даних після попереднього запуску, і зливає їх
+     * з упорядкованим результатом попереднього запуску (див. {@link IncrementalIntFile}).
+     * 
+     * <p>З властивістю {@code incremental.poll.ms} файл перевіряється повторно із заданим
+     * інтервалом, доки процес не буде зупинено; множина для пошуку значення будується один раз
+     * і далі лише доповнюється дописаними значеннями.</p>
+     * 
+     * @param args Аргументи командного рядка: команда, файл даних та пошукове значення
+     */
+    private static void runIncrementalUpdate(String[] args) {
+        if (args.length > 3) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        String dataPath = args.length > 1 ? args[1] : PATH_TO_DATA_FILE;
+        Integer valueToSearch = null;
+        if (args.length > 2) {
+            try {
+                valueToSearch = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                System.out.println("Помилка: Невірний формат цілого числа int (наприклад: -2147001234)");
+                return;
+            }
+        }
+
+        long pollIntervalMs = Long.getLong("incremental.poll.ms", 0);
+        IncrementalIntFile incrementalFile = new IncrementalIntFile(dataPath);
+        System.out.println("📈 ІНКРЕМЕНТНА ОБРОБКА: " + dataPath);
+        while (true) {
+            IncrementalIntFile.Update update;
+            try {
+                update = incrementalFile.update();
+            } catch (IOException | NumberFormatException e) {
+                System.out.println("❌ Помилка інкрементної обробки " + dataPath + ": " + e.getMessage());
+                return;
+            }
+
+            if (update.fullReload || update.parsedCount > 0 || pollIntervalMs <= 0) {
+                describeIncrementalUpdate(incrementalFile, update, valueToSearch);
+            }
+            if (pollIntervalMs <= 0) {
+                break;
+            }
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        PerformanceTracker.printSummary();
+    }
+
+    private static void describeIncrementalUpdate(IncrementalIntFile incrementalFile, IncrementalIntFile.Update update,
+            Integer valueToSearch) {
+        int[] sortedValues = incrementalFile.sortedValues();
+        System.out.println((update.fullReload ? "Файл оброблено повністю" : "Оброблено дописану частину")
+                + ": байти " + update.fromOffset + "–" + update.toOffset + ", розібрано значень: " + update.parsedCount
+                + (update.replacedCount > 0 ? " (з них замінюють незавершений рядок: " + update.replacedCount + ")" : "")
+                + ", усього значень: " + sortedValues.length);
+        if (sortedValues.length > 0) {
+            System.out.println("Найменше значення: " + sortedValues[0]
+                    + ", найбільше значення: " + sortedValues[sortedValues.length - 1]);
+        }
+        if (valueToSearch != null) {
+            int value = valueToSearch;
+            boolean found = incrementalFile.contains(value);
+            System.out.println("Елемент '" + value + "'" + (found ? " знайдено." : " відсутній."));
+        }
+    }
+
+    private static void describeBitmapSet(String title, IntBitmapSet set) {
+        System.out.println(title + ": " + set.cardinality() + " унікальних значень"
+                + (set.isEmpty() ? "" : ", від " + set.min() + " до " + set.max())
+                + ", " + set.memoryFootprintBytes() + " байтів, " + set.containerStatistics());
+    }
+
     /**
      * Координує виконання операцій залежно від обраного типу.
      * 
@@ -70,13 +433,35 @@ public class BasicDataOperation {
         System.out.println(SEPARATOR);
         System.out.println("🚀 РОЗПОЧАТО АНАЛІЗ ДАНИХ Integer 🚀");
         System.out.println("Пошуковий параметр: " + args[0]);
+        System.out.println("Режим аналізу: " + mode.name().toLowerCase(Locale.ROOT));
         System.out.println(SEPARATOR);
         
         // Підготовка даних та перевірка формату
         integerValueToSearch = Integer.parseInt(args[0]);
-        intArray = DataFileHandler.loadArrayFromFile(PATH_TO_DATA_FILE);
+        if (mode.usesBoxedArray()) {
+            // масив int завантажується класом обробки окремо, тому Integer[] потрібен лише колекціям
+            intArray = PerformanceTracker.measure("Integer[]", OperationType.LOAD, "завантаження масиву Integer",
+                    () -> DataFileHandler.loadArrayFromFile(PATH_TO_DATA_FILE));
+        }
         
-        runAllOperations();
+        switch (mode) {
+            case LIST:
+                runListOperations();
+                break;
+            case QUEUE:
+                runQueueOperations();
+                break;
+            case SET:
+                runSetOperations();
+                break;
+            case INT:
+                runPrimitiveOperations();
+                break;
+            default:
+                runAllOperations();
+        }
+
+        PerformanceTracker.printSummary();
 
         System.out.println(SEPARATOR);
         System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
@@ -94,7 +479,7 @@ public class BasicDataOperation {
         
         try {
             // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(integerValueToSearch, intArray);
+            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(integerValueToSearch, arrayForProcessor());
             listProcessor.executeDataOperations();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з List: " + e.getMessage());
@@ -113,7 +498,7 @@ public class BasicDataOperation {
         
         try {
             // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(integerValueToSearch, intArray);
+            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(integerValueToSearch, arrayForProcessor());
             queueProcessor.runDataProcessing();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з Queue: " + e.getMessage());
@@ -132,7 +517,7 @@ public class BasicDataOperation {
         
         try {
             // Створення екземпляру класу з передаванням даних           
-            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(integerValueToSearch, intArray);
+            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(integerValueToSearch, arrayForProcessor());
             setProcessor.executeDataAnalysis();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з Set: " + e.getMessage());
@@ -140,6 +525,38 @@ public class BasicDataOperation {
         }
     }
 
+    /**
+     * Запускає операції з масивом примітивних значень int.
+     * 
+     * <p>Дані завантажуються окремо у масив int, без упакування в Integer.</p>
+     */
+    private void runPrimitiveOperations() {
+        System.out.println("🧮 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ МАСИВУ int");
+        System.out.println("-".repeat(50));
+        
+        try {
+            int[] primitiveArray = DataFileHandler.loadIntArrayFromFile(PATH_TO_DATA_FILE);
+            BasicDataOperationUsingPrimitiveArray primitiveProcessor =
+                new BasicDataOperationUsingPrimitiveArray(integerValueToSearch, primitiveArray);
+            primitiveProcessor.executeDataOperations();
+        } catch (Exception e) {
+            System.out.println("❌ Помилка при роботі з масивом int: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Повертає масив для класу обробки колекцій. Копія потрібна лише в режимі {@code all},
+     * коли той самий масив використовують кілька класів обробки.
+     */
+    private Integer[] arrayForProcessor() {
+        if (mode != AnalysisMode.ALL) {
+            return intArray;
+        }
+        return PerformanceTracker.measure("Integer[]", OperationType.CONSTRUCTION, "копіювання масиву Integer",
+                () -> intArray.clone());
+    }
+
     /**
      * Запускає операції з усіма типами колекцій для порівняння.
      * 
@@ -149,15 +566,30 @@ public class BasicDataOperation {
         System.out.println("🎯 КОМПЛЕКСНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
         System.out.println("=".repeat(60));
         
+        if (Boolean.getBoolean("analysis.concurrent")) {
+            // кожна задача працює з власною копією масиву, звіти виводяться в порядку додавання
+            ConcurrentAnalysisRunner runner = new ConcurrentAnalysisRunner();
+            runner.addTask("List", this::runListOperations);
+            runner.addTask("Queue", this::runQueueOperations);
+            runner.addTask("Set", this::runSetOperations);
+            runner.addTask("int[]", this::runPrimitiveOperations);
+            runner.runAll(SECTION_SEPARATOR);
+            return;
+        }
+
         // Обробка List
         runListOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
+        System.out.println(SECTION_SEPARATOR);
         
         // Обробка Queue  
         runQueueOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
+        System.out.println(SECTION_SEPARATOR);
         
         // Обробка Set
         runSetOperations();
+        System.out.println(SECTION_SEPARATOR);
+        
+        // Обробка масиву int без упакування
+        runPrimitiveOperations();
     }
 }
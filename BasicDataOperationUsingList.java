@@ -6,6 +6,9 @@ import java.util.List;
 /**
  * Клас BasicDataOperationUsingList реалізує операції з колекціями типу ArrayList для даних Integer.
  * 
+ * <p>Після впорядкування пошук може виконуватися через індекс {@link SearchIndex}, заданий
+ * властивістю {@code search.index}; його вимірювання записуються в окрему групу таймерів.</p>
+ * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
@@ -15,12 +18,17 @@ import java.util.List;
  *   <li>{@link #sortList()} - Сортує колекцію List з Integer.</li>
  *   <li>{@link #findInList()} - Пошук конкретного значення в списку.</li>
  *   <li>{@link #locateMinMaxInList()} - Пошук мінімального і максимального значення в списку.</li>
+ *   <li>{@link #buildSearchIndex()} - Будує індекс пошуку за впорядкованим списком.</li>
  * </ul>
  */
 public class BasicDataOperationUsingList {
+    private static final String TRACKER_GROUP = "List";
+
     private Integer integerValueToSearch;
     private Integer[] intArray;
     private List<Integer> dateTimeList;
+    private SearchIndex searchIndex;
+    private boolean arraySorted;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -31,7 +39,6 @@ public class BasicDataOperationUsingList {
     BasicDataOperationUsingList(Integer integerValueToSearch, Integer[] intArray) {
         this.integerValueToSearch = integerValueToSearch;
         this.intArray = intArray;
-        this.dateTimeList = new ArrayList<>(Arrays.asList(intArray));
     }
     
     /**
@@ -46,6 +53,7 @@ public class BasicDataOperationUsingList {
         locateMinMaxInList();
         
         sortList();
+        buildSearchIndex();
         
         findInList();
         locateMinMaxInList();
@@ -60,7 +68,7 @@ public class BasicDataOperationUsingList {
         locateMinMaxInArray();
 
         // зберігаємо відсортований масив до окремого файлу
-        DataFileHandler.writeArrayToFile(intArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
+        SortedResultCache.writeSortedOnce(intArray, BasicDataOperation.PATH_TO_DATA_FILE);
     }
 
     /**
@@ -68,23 +76,40 @@ public class BasicDataOperationUsingList {
      * Фіксує та виводить тривалість операції сортування в наносекундах.
      */
     void performArraySorting() {
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(intArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        if (SortedResultCache.isBypassedForTiming()) {
+            // кожна ітерація сортує відновлену копію, а не копіює результат з кешу
+            Integer[] unsortedCopy = intArray.clone();
+            PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT, "упорядкування масиву дати i часу",
+                    () -> System.arraycopy(unsortedCopy, 0, intArray, 0, intArray.length),
+                    () -> SortedResultCache.sortUncached(intArray));
+        } else if (SortedResultCache.copyCached(intArray, BasicDataOperation.PATH_TO_DATA_FILE)) {
+            // копіювання готового результату не є сортуванням, тому не записується як ARRAY_SORT
+            System.out.println("Повторне сортування пропущено: використано раніше впорядкований результат.");
+        } else {
+            PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT, "упорядкування масиву дати i часу",
+                    () -> SortedResultCache.sortInPlace(intArray, BasicDataOperation.PATH_TO_DATA_FILE));
+        }
+        arraySorted = true;
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
      */
     void findInArray() {
-        long timeStart = System.nanoTime();
-
-        int position = Arrays.binarySearch(this.intArray, integerValueToSearch);
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук заданого типу даних");
+        int position;
+        if (searchIndex != null && arraySorted) {
+            // масив і список містять ті самі значення, тому після впорядкування індекс підходить для обох
+            int valueToSearch = integerValueToSearch;
+            position = PerformanceTracker.measureInt(searchIndexGroup(), OperationType.ARRAY_SEARCH,
+                    "пошук заданого типу даних через індекс " + searchIndex.name(), () -> searchIndex.search(valueToSearch));
+        } else {
+            position = PerformanceTracker.measureInt(TRACKER_GROUP, OperationType.ARRAY_SEARCH, "пошук заданого типу даних",
+                    () -> Arrays.binarySearch(this.intArray, integerValueToSearch));
+        }
 
+        if (searchIndex != null && arraySorted && !searchIndex.statistics().isEmpty()) {
+            System.out.println("Індекс " + searchIndex.name() + ": " + searchIndex.statistics());
+        }
         if (position >= 0) {
             System.out.println("Елемент '" + integerValueToSearch + "' знайдено в масивi за позицією: " + position);
         } else {
@@ -101,35 +126,28 @@ public class BasicDataOperationUsingList {
             return;
         }
 
-        long timeStart = System.nanoTime();
-
-        Integer minValue = intArray[0];
-        Integer maxValue = intArray[0];
-
-        for (Integer currentInteger : intArray) {
-            if (currentInteger < minValue) {
-                minValue = currentInteger;
-            }
-            if (currentInteger > maxValue) {
-                maxValue = currentInteger;
-            }
-        }
+        IntStatistics statistics = PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_MIN_MAX,
+                "визначення мiнiмальної i максимальної дати в масивi",
+                () -> IntStatistics.ofBoxed(Arrays.asList(intArray)));
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
-
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        System.out.println("Найменше значення в масивi: " + statistics.min());
+        System.out.println("Найбільше значення в масивi: " + statistics.max());
     }
 
     /**
      * Шукає конкретне значення дати та часу в колекції ArrayList.
      */
     void findInList() {
-        long timeStart = System.nanoTime();
-
-        int position = Collections.binarySearch(this.dateTimeList, integerValueToSearch);
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в List дати i часу");        
+        int position;
+        if (searchIndex != null) {
+            int valueToSearch = integerValueToSearch;
+            position = PerformanceTracker.measureInt(searchIndexGroup(), OperationType.COLLECTION_SEARCH,
+                    "пошук елемента в List через індекс " + searchIndex.name(), () -> searchIndex.search(valueToSearch));
+        } else {
+            List<Integer> list = dateTimeList();
+            position = PerformanceTracker.measureInt(TRACKER_GROUP, OperationType.COLLECTION_SEARCH, "пошук елемента в List дати i часу",
+                    () -> Collections.binarySearch(list, integerValueToSearch));
+        }
 
         if (position >= 0) {
             System.out.println("Елемент '" + integerValueToSearch + "' знайдено в ArrayList за позицією: " + position);
@@ -142,20 +160,17 @@ public class BasicDataOperationUsingList {
      * Визначає найменше і найбільше значення в колекції ArrayList з датами.
      */
     void locateMinMaxInList() {
-        if (dateTimeList == null || dateTimeList.isEmpty()) {
+        if (dateTimeList().isEmpty()) {
             System.out.println("Колекція ArrayList є пустою або не ініціалізованою.");
             return;
         }
 
-        long timeStart = System.nanoTime();
-
-        Integer minValue = Collections.min(dateTimeList);
-        Integer maxValue = Collections.max(dateTimeList);
-
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в List");
+        IntStatistics statistics = PerformanceTracker.measure(TRACKER_GROUP, OperationType.COLLECTION_MIN_MAX,
+                "визначення мiнiмальної i максимальної дати в List",
+                () -> IntStatistics.ofBoxed(dateTimeList()));
 
-        System.out.println("Найменше значення в List: " + minValue);
-        System.out.println("Найбільше значення в List: " + maxValue);
+        System.out.println("Найменше значення в List: " + statistics.min());
+        System.out.println("Найбільше значення в List: " + statistics.max());
     }
 
     /**
@@ -163,10 +178,51 @@ public class BasicDataOperationUsingList {
      * Відстежує та виводить час виконання операції сортування.
      */
     void sortList() {
-        long timeStart = System.nanoTime();
+        List<Integer> unsortedCopy = PerformanceTracker.isRepeated(OperationType.COLLECTION_SORT)
+                ? new ArrayList<>(dateTimeList()) : null;
+
+        PerformanceTracker.measure(TRACKER_GROUP, OperationType.COLLECTION_SORT, "упорядкування ArrayList дати i часу",
+                () -> Collections.copy(dateTimeList(), unsortedCopy),
+                () -> Collections.sort(dateTimeList()));
+    }
+
+    /**
+     * Будує індекс пошуку, заданий властивістю {@code search.index}, за впорядкованим списком.
+     * Для звичайного двійкового пошуку індекс не будується.
+     */
+    void buildSearchIndex() {
+        String indexKind = SearchIndex.configuredKind();
+        if (SearchIndex.BINARY.equals(indexKind)) {
+            return;
+        }
 
-        Collections.sort(dateTimeList);
+        int[] sortedValues = new int[dateTimeList().size()];
+        for (int i = 0; i < sortedValues.length; i++) {
+            sortedValues[i] = dateTimeList().get(i);
+        }
+        try {
+            searchIndex = PerformanceTracker.measure(TRACKER_GROUP + " " + indexKind, OperationType.CONSTRUCTION,
+                    "побудова індексу пошуку " + indexKind, () -> SearchIndex.build(indexKind, sortedValues));
+            System.out.println("Обсяг індексу " + searchIndex.name() + ": " + searchIndex.memoryFootprintBytes()
+                    + " байтів (двійковий пошук додаткової пам'яті не потребує, дані займають "
+                    + (long) sortedValues.length * Integer.BYTES + " байтів)");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage() + ", використано двійковий пошук.");
+        }
+    }
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування ArrayList дати i часу");
+    private String searchIndexGroup() {
+        return TRACKER_GROUP + " " + searchIndex.name();
+    }
+
+    /**
+     * Повертає список, будуючи його під час першого звернення.
+     */
+    private List<Integer> dateTimeList() {
+        if (dateTimeList == null) {
+            dateTimeList = PerformanceTracker.measure(TRACKER_GROUP, OperationType.CONSTRUCTION, "побудова ArrayList",
+                    () -> new ArrayList<>(Arrays.asList(intArray)));
+        }
+        return dateTimeList;
     }
 }
\ No newline at end of file
@@ -0,0 +1,268 @@
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Клас BasicDataOperationUsingPrimitiveArray реалізує операції з масивом примітивних значень int.
+ *
+ * <p>На відміну від інших класів, дані зберігаються без упакування в об'єкти Integer,
+ * що зменшує споживання пам'яті та навантаження на збирач сміття.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
+ *   <li>{@link #performArraySorting()} - Упорядковує масив значень int.</li>
+ *   <li>{@link #compareSortEngines()} - Порівнює тривалість усіх алгоритмів сортування.</li>
+ *   <li>{@link #buildSearchIndex()} - Будує індекс пошуку, заданий властивістю {@code search.index}.</li>
+ *   <li>{@link #performRangeQueries()} - Діапазонні, порядкові та top-K запити до впорядкованого масиву.</li>
+ *   <li>{@link #findInArray()} - Здійснює пошук елемента в масиві int.</li>
+ *   <li>{@link #locateMinMaxInArray()} - Визначає найменше і найбільше значення в масиві.</li>
+ *   <li>{@link #findInDataStream()} - Пошук значення в файлі без повного завантаження.</li>
+ *   <li>{@link #locateMinMaxInDataStream()} - Граничні значення файлу без повного завантаження.</li>
+ * </ul>
+ */
+public class BasicDataOperationUsingPrimitiveArray {
+    private static final int STREAM_CHUNK_SIZE = 1 << 14;
+    private static final String TRACKER_GROUP = "int[]";
+
+    private int intValueToSearch;
+    private int[] intArray;
+    private SearchIndex searchIndex;
+    private final int queryK = SortedRangeQueries.configuredK();
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
+     *
+     * @param intValueToSearch Значення для пошуку
+     * @param intArray Масив значень int
+     */
+    BasicDataOperationUsingPrimitiveArray(int intValueToSearch, int[] intArray) {
+        this.intValueToSearch = intValueToSearch;
+        this.intArray = intArray;
+    }
+
+    /**
+     * Виконує комплексні операції з масивом примітивних значень.
+     *
+     * Метод здійснює пошук, визначення граничних значень та сортування масиву int.
+     */
+    public void executeDataOperations() {
+        // операції, яким не потрібен весь масив, виконуємо потоково над файлом
+        findInDataStream();
+        locateMinMaxInDataStream();
+
+        findInArray();
+        locateMinMaxInArray();
+
+        if (Boolean.getBoolean("sort.compare")) {
+            compareSortEngines();
+        }
+        performArraySorting();
+        buildSearchIndex();
+
+        findInArray();
+        locateMinMaxInArray();
+        performRangeQueries();
+
+        // зберігаємо відсортований масив до окремого файлу та його двійковий знімок
+        SortedResultCache.writeSortedOnce(intArray, BasicDataOperation.PATH_TO_DATA_FILE);
+    }
+
+    /**
+     * Упорядковує масив значень int за зростанням.
+     * Фіксує та виводить тривалість операції сортування в наносекундах.
+     */
+    void performArraySorting() {
+        if (SortedResultCache.isBypassedForTiming()) {
+            // кожна ітерація сортує відновлену копію, а не копіює результат з кешу
+            int[] unsortedCopy = intArray.clone();
+            PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT, "упорядкування масиву int",
+                    () -> System.arraycopy(unsortedCopy, 0, intArray, 0, intArray.length),
+                    () -> SortedResultCache.sortUncached(intArray));
+        } else if (SortedResultCache.copyCached(intArray, BasicDataOperation.PATH_TO_DATA_FILE)) {
+            // копіювання готового результату не є сортуванням, тому не записується як ARRAY_SORT
+            System.out.println("Повторне сортування пропущено: використано раніше впорядкований результат.");
+        } else {
+            PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT, "упорядкування масиву int",
+                    () -> SortedResultCache.sortInPlace(intArray, BasicDataOperation.PATH_TO_DATA_FILE));
+        }
+    }
+
+    /**
+     * Вимірює кожен алгоритм сортування на копії невпорядкованого масиву.
+     *
+     * Результати кожного алгоритму потрапляють в окрему групу таймерів, тому в підсумковій
+     * таблиці їх можна порівняти між собою та з кількістю доступних ядер.
+     */
+    void compareSortEngines() {
+        System.out.println("Порівняння алгоритмів сортування (ядер: " + Runtime.getRuntime().availableProcessors()
+                + ", паралелізм пулу: " + ForkJoinPool.getCommonPoolParallelism() + ")");
+        int[] workingCopy = new int[intArray.length];
+        for (SortEngine engine : SortEngine.values()) {
+            if (engine == SortEngine.AUTO) {
+                continue;
+            }
+            System.arraycopy(intArray, 0, workingCopy, 0, intArray.length);
+            PerformanceTracker.measure(TRACKER_GROUP + " " + engine.name().toLowerCase(Locale.ROOT), OperationType.ARRAY_SORT,
+                    "упорядкування масиву int: " + engine.label(),
+                    () -> System.arraycopy(intArray, 0, workingCopy, 0, intArray.length),
+                    () -> engine.sort(workingCopy));
+        }
+        System.out.println("Алгоритм за замовчуванням для " + intArray.length + " елементів: "
+                + SortedResultCache.sortEngine().resolve(intArray.length).label());
+    }
+
+    /**
+     * Будує індекс пошуку за впорядкованим масивом.
+     * Для звичайного двійкового пошуку ({@code search.index=binary}) індекс не будується.
+     */
+    void buildSearchIndex() {
+        String indexKind = SearchIndex.configuredKind();
+        if (SearchIndex.BINARY.equals(indexKind)) {
+            return;
+        }
+        try {
+            searchIndex = PerformanceTracker.measure(TRACKER_GROUP + " " + indexKind, OperationType.CONSTRUCTION,
+                    "побудова індексу пошуку " + indexKind, () -> SearchIndex.build(indexKind, intArray));
+            System.out.println("Обсяг індексу " + searchIndex.name() + ": " + searchIndex.memoryFootprintBytes()
+                    + " байтів (двійковий пошук додаткової пам'яті не потребує, дані займають "
+                    + (long) intArray.length * Integer.BYTES + " байтів)");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage() + ", використано двійковий пошук.");
+        }
+    }
+
+    /**
+     * Виконує діапазонні, порядкові та top-K запити до впорядкованого масиву.
+     *
+     * Діапазон задають властивості {@code query.range.from} (за замовчуванням значення для пошуку)
+     * та {@code query.range.to} (за замовчуванням найбільше значення int), кількість крайніх
+     * значень — {@code query.k} (за замовчуванням 10).
+     */
+    void performRangeQueries() {
+        if (intArray.length == 0) {
+            System.out.println("Масив є пустим або не ініціалізованим.");
+            return;
+        }
+
+        SortedRangeQueries queries = new SortedRangeQueries(intArray);
+        int from = Integer.getInteger("query.range.from", intValueToSearch);
+        int to = Integer.getInteger("query.range.to", Integer.MAX_VALUE);
+        String range = "[" + from + ", " + to + "]";
+
+        int count = PerformanceTracker.measureInt(TRACKER_GROUP, OperationType.RANGE_QUERY,
+                "кількість значень у діапазоні " + range, () -> queries.countInRange(from, to));
+        int[] rangeValues = PerformanceTracker.measure(TRACKER_GROUP, OperationType.RANGE_QUERY,
+                "вилучення значень діапазону " + range, () -> queries.valuesInRange(from, to));
+        int rank = PerformanceTracker.measureInt(TRACKER_GROUP, OperationType.RANGE_QUERY,
+                "ранг значення " + intValueToSearch, () -> queries.rank(intValueToSearch));
+        int median = PerformanceTracker.measureInt(TRACKER_GROUP, OperationType.RANGE_QUERY,
+                "вибір медіани", () -> queries.select(intArray.length / 2));
+        int[] top = PerformanceTracker.measure(TRACKER_GROUP, OperationType.TOP_K,
+                "top-" + queryK + " масиву int", () -> queries.topK(queryK));
+        int[] bottom = PerformanceTracker.measure(TRACKER_GROUP, OperationType.TOP_K,
+                "bottom-" + queryK + " масиву int", () -> queries.bottomK(queryK));
+
+        System.out.println("Значень у діапазоні " + range + ": " + count + ", перші з них: "
+                + Arrays.toString(Arrays.copyOf(rangeValues, Math.min(rangeValues.length, queryK))));
+        System.out.println("Ранг значення '" + intValueToSearch + "': " + rank);
+        System.out.println("Медіана (елемент " + intArray.length / 2 + "): " + median);
+        System.out.println(queryK + " найбільших значень: " + Arrays.toString(top));
+        System.out.println(queryK + " найменших значень: " + Arrays.toString(bottom));
+    }
+
+    /**
+     * Здійснює пошук конкретного значення в масиві int.
+     */
+    void findInArray() {
+        int position;
+        if (searchIndex != null) {
+            position = PerformanceTracker.measureInt(TRACKER_GROUP + " " + searchIndex.name(), OperationType.ARRAY_SEARCH,
+                    "пошук елемента в масивi int через індекс " + searchIndex.name(), () -> searchIndex.search(intValueToSearch));
+        } else {
+            position = PerformanceTracker.measureInt(TRACKER_GROUP, OperationType.ARRAY_SEARCH, "пошук елемента в масивi int",
+                    () -> Arrays.binarySearch(this.intArray, intValueToSearch));
+        }
+
+        if (searchIndex != null && !searchIndex.statistics().isEmpty()) {
+            System.out.println("Індекс " + searchIndex.name() + ": " + searchIndex.statistics());
+        }
+        if (position >= 0) {
+            System.out.println("Елемент '" + intValueToSearch + "' знайдено в масивi int за позицією: " + position);
+        } else {
+            System.out.println("Елемент '" + intValueToSearch + "' відсутній в масиві int.");
+        }
+    }
+
+    /**
+     * Визначає найменше та найбільше значення в масиві int.
+     */
+    void locateMinMaxInArray() {
+        if (intArray == null || intArray.length == 0) {
+            System.out.println("Масив є пустим або не ініціалізованим.");
+            return;
+        }
+
+        IntStatistics statistics = PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_MIN_MAX,
+                "визначення мiнiмального i максимального значення в масивi int", () -> IntStatistics.of(intArray));
+
+        System.out.println("Найменше значення в масивi int: " + statistics.min());
+        System.out.println("Найбільше значення в масивi int: " + statistics.max());
+        System.out.println("Статистика масиву int: " + statistics);
+    }
+
+    /**
+     * Перевіряє наявність значення, читаючи файл даних порціями без побудови масиву.
+     */
+    void findInDataStream() {
+        boolean elementFound = PerformanceTracker.measure(TRACKER_GROUP, OperationType.STREAM_SEARCH,
+                "потоковий пошук елемента у файлi", () -> {
+            boolean[] found = new boolean[1];
+            // після знаходження значення решта файлу не читається
+            DataFileHandler.streamIntChunks(BasicDataOperation.PATH_TO_DATA_FILE, STREAM_CHUNK_SIZE, (chunk, length) -> {
+                for (int i = 0; i < length && !found[0]; i++) {
+                    found[0] = chunk[i] == intValueToSearch;
+                }
+                return !found[0];
+            });
+            return found[0];
+        });
+
+        if (elementFound) {
+            System.out.println("Елемент '" + intValueToSearch + "' знайдено у файлi даних.");
+        } else {
+            System.out.println("Елемент '" + intValueToSearch + "' відсутній у файлi даних.");
+        }
+    }
+
+    /**
+     * Визначає найменше та найбільше значення, читаючи файл даних порціями без побудови масиву.
+     */
+    void locateMinMaxInDataStream() {
+        // третій елемент результату - кількість прочитаних значень
+        long[] minMax = PerformanceTracker.measure(TRACKER_GROUP, OperationType.STREAM_MIN_MAX,
+                "потокове визначення мiнiмального i максимального значення у файлi", () -> {
+            long[] result = { Integer.MAX_VALUE, Integer.MIN_VALUE, 0 };
+            result[2] = DataFileHandler.streamIntChunks(BasicDataOperation.PATH_TO_DATA_FILE, STREAM_CHUNK_SIZE, (chunk, length) -> {
+                long minValue = result[0];
+                long maxValue = result[1];
+                for (int i = 0; i < length; i++) {
+                    minValue = Math.min(minValue, chunk[i]);
+                    maxValue = Math.max(maxValue, chunk[i]);
+                }
+                result[0] = minValue;
+                result[1] = maxValue;
+                return true;
+            });
+            return result;
+        });
+
+        if (minMax[2] == 0) {
+            System.out.println("Файл даних є пустим.");
+            return;
+        }
+
+        System.out.println("Найменше значення у файлi: " + minMax[0]);
+        System.out.println("Найбільше значення у файлi: " + minMax[1]);
+    }
+}
@@ -1,11 +1,17 @@
 import java.util.Queue;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
 import java.util.PriorityQueue;
 
 /**
  * Клас BasicDataOperationUsingQueue реалізує роботу з колекціями типу Queue для Integer.
  * 
+ * <p>Чергу може бути побудовано як {@link PriorityQueue} або як примітивну {@link IntMinMaxHeap}.
+ * Реалізацію обирає системна властивість {@code queue.backing}: {@code priority}, {@code minmax}
+ * або {@code both} (за замовчуванням). Властивість {@code queue.index=false} вимикає індекс
+ * членства купи, і пошук у ній виконується лінійним переглядом.</p>
+ *
  * <p>Основні функції класу:</p>
  * <ul>
  *   <li>{@link #runDataProcessing()} - Запускає комплекс операцій з даними.</li>
@@ -15,13 +21,52 @@ import java.util.PriorityQueue;
  *   <li>{@link #findInQueue()} - Пошук значення в черзі Integer.</li>
  *   <li>{@link #locateMinMaxInQueue()} - Знаходить граничні значення в черзі.</li>
  *   <li>{@link #performQueueOperations()} - Виконує операції peek і poll з чергою.</li>
+ *   <li>{@link #findInMinMaxHeap()} - Пошук значення в купі IntMinMaxHeap.</li>
+ *   <li>{@link #locateMinMaxInMinMaxHeap()} - Знаходить граничні значення в купі за O(1).</li>
+ *   <li>{@link #performMinMaxHeapOperations()} - Виконує операції peek і poll з обох кінців купи.</li>
+ *   <li>{@link #selectTopKFromStream()} - Відбирає k крайніх значень потоку обмеженими купами.</li>
  * </ul>
  * 
  */
 public class BasicDataOperationUsingQueue {
+    private static final String TRACKER_GROUP = "Queue";
+    private static final String HEAP_TRACKER_GROUP = "IntMinMaxHeap";
+    private static final String BOUNDED_HEAP_TRACKER_GROUP = "IntBoundedHeap";
+
+    /**
+     * Реалізація черги, з якою виконується аналіз.
+     */
+    enum QueueBacking {
+        PRIORITY, MINMAX, BOTH;
+
+        /**
+         * @return Реалізація, задана системною властивістю {@code queue.backing}
+         */
+        static QueueBacking fromSystemProperty() {
+            String value = System.getProperty("queue.backing", "both");
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Невідома реалізація черги '" + value + "', використано both.");
+                return BOTH;
+            }
+        }
+
+        boolean usesPriorityQueue() {
+            return this != MINMAX;
+        }
+
+        boolean usesMinMaxHeap() {
+            return this != PRIORITY;
+        }
+    }
+
     private Integer integerValueToSearch;
     private Integer[] intArray;
     private Queue<Integer> dateTimeQueue;
+    private IntMinMaxHeap minMaxHeap;
+    private final QueueBacking backing = QueueBacking.fromSystemProperty();
+    private final int queryK = SortedRangeQueries.configuredK();
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -32,7 +77,6 @@ public class BasicDataOperationUsingQueue {
     BasicDataOperationUsingQueue(Integer integerValueToSearch, Integer[] intArray) {
         this.integerValueToSearch = integerValueToSearch;
         this.intArray = intArray;
-        this.dateTimeQueue = new PriorityQueue<>(Arrays.asList(intArray));
     }
     
     /**
@@ -42,9 +86,17 @@ public class BasicDataOperationUsingQueue {
      */
     public void runDataProcessing() {
         // спочатку обробляємо чергу дати та часу
-        findInQueue();
-        locateMinMaxInQueue();
-        performQueueOperations();
+        if (backing.usesPriorityQueue()) {
+            findInQueue();
+            locateMinMaxInQueue();
+            performQueueOperations();
+        }
+        if (backing.usesMinMaxHeap()) {
+            findInMinMaxHeap();
+            locateMinMaxInMinMaxHeap();
+            performMinMaxHeapOperations();
+        }
+        selectTopKFromStream();
 
         // потім працюємо з масивом
         findInArray();
@@ -56,7 +108,7 @@ public class BasicDataOperationUsingQueue {
         locateMinMaxInArray();
 
         // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(intArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
+        SortedResultCache.writeSortedOnce(intArray, BasicDataOperation.PATH_TO_DATA_FILE);
     }
 
     /**
@@ -65,11 +117,19 @@ public class BasicDataOperationUsingQueue {
      */
     private void performArraySorting() {
         // вимірюємо тривалість упорядкування масиву дати та часу
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(intArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        if (SortedResultCache.isBypassedForTiming()) {
+            // кожна ітерація сортує відновлену копію, а не копіює результат з кешу
+            Integer[] unsortedCopy = intArray.clone();
+            PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT, "упорядкування масиву дати i часу",
+                    () -> System.arraycopy(unsortedCopy, 0, intArray, 0, intArray.length),
+                    () -> SortedResultCache.sortUncached(intArray));
+        } else if (SortedResultCache.copyCached(intArray, BasicDataOperation.PATH_TO_DATA_FILE)) {
+            // копіювання готового результату не є сортуванням, тому не записується як ARRAY_SORT
+            System.out.println("Повторне сортування пропущено: використано раніше впорядкований результат.");
+        } else {
+            PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT, "упорядкування масиву дати i часу",
+                    () -> SortedResultCache.sortInPlace(intArray, BasicDataOperation.PATH_TO_DATA_FILE));
+        }
     }
 
     /**
@@ -77,11 +137,8 @@ public class BasicDataOperationUsingQueue {
      */
     private void findInArray() {
         // відстежуємо час виконання пошуку в масиві
-        long timeStart = System.nanoTime();
-        
-        int position = Arrays.binarySearch(this.intArray, integerValueToSearch);
-        
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        int position = PerformanceTracker.measureInt(TRACKER_GROUP, OperationType.ARRAY_SEARCH, "пошук елемента в масивi дати i часу",
+                () -> Arrays.binarySearch(this.intArray, integerValueToSearch));
 
         if (position >= 0) {
             System.out.println("Елемент '" + integerValueToSearch + "' знайдено в масивi за позицією: " + position);
@@ -100,36 +157,22 @@ public class BasicDataOperationUsingQueue {
         }
 
         // відстежуємо час на визначення граничних значень
-        long timeStart = System.nanoTime();
-
-        Integer minValue = intArray[0];
-        Integer maxValue = intArray[0];
+        IntStatistics statistics = PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_MIN_MAX,
+                "визначення мiнiмальної i максимальної дати в масивi",
+                () -> IntStatistics.ofBoxed(Arrays.asList(intArray)));
 
-        for (Integer currentInteger : intArray) {
-            if (currentInteger < minValue) {
-                minValue = currentInteger;
-            }
-            if (currentInteger > maxValue) {
-                maxValue = currentInteger;
-            }
-        }
-
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
-
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        System.out.println("Найменше значення в масивi: " + statistics.min());
+        System.out.println("Найбільше значення в масивi: " + statistics.max());
     }
 
     /**
      * Здійснює пошук конкретного значення в черзі дати та часу.
      */
     private void findInQueue() {
+        Queue<Integer> queue = dateTimeQueue();
         // вимірюємо час пошуку в черзі
-        long timeStart = System.nanoTime();
-
-        boolean elementExists = this.dateTimeQueue.contains(integerValueToSearch);
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в Queue дати i часу");
+        boolean elementExists = PerformanceTracker.measure(TRACKER_GROUP, OperationType.COLLECTION_SEARCH, "пошук елемента в Queue дати i часу",
+                () -> queue.contains(integerValueToSearch));
 
         if (elementExists) {
             System.out.println("Елемент '" + integerValueToSearch + "' знайдено в Queue");
@@ -142,39 +185,186 @@ public class BasicDataOperationUsingQueue {
      * Визначає найменше та найбільше значення в черзі Integer.
      */
     private void locateMinMaxInQueue() {
-        if (dateTimeQueue == null || dateTimeQueue.isEmpty()) {
+        if (dateTimeQueue().isEmpty()) {
             System.out.println("Черга є пустою або не ініціалізованою.");
             return;
         }
 
         // відстежуємо час пошуку граничних значень
-        long timeStart = System.nanoTime();
-
-        Integer minValue = Collections.min(dateTimeQueue);
-        Integer maxValue = Collections.max(dateTimeQueue);
-
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в Queue");
+        IntStatistics statistics = PerformanceTracker.measure(TRACKER_GROUP, OperationType.COLLECTION_MIN_MAX,
+                "визначення мiнiмальної i максимальної дати в Queue",
+                () -> IntStatistics.ofBoxed(dateTimeQueue()));
 
-        System.out.println("Найменше значення в Queue: " + minValue);
-        System.out.println("Найбільше значення в Queue: " + maxValue);
+        System.out.println("Найменше значення в Queue: " + statistics.min());
+        System.out.println("Найбільше значення в Queue: " + statistics.max());
     }
 
     /**
      * Виконує операції peek і poll з чергою Integer.
      */
     private void performQueueOperations() {
-        if (dateTimeQueue == null || dateTimeQueue.isEmpty()) {
+        if (dateTimeQueue().isEmpty()) {
             System.out.println("Черга є пустою або не ініціалізованою.");
             return;
         }
 
-        Integer headElement = dateTimeQueue.peek();
+        Integer headElement = dateTimeQueue().peek();
         System.out.println("Головний елемент черги (peek): " + headElement);
 
-        headElement = dateTimeQueue.poll();
+        headElement = dateTimeQueue().poll();
         System.out.println("Видалений елемент черги (poll): " + headElement);
 
-        headElement = dateTimeQueue.peek();
+        headElement = dateTimeQueue().peek();
         System.out.println("Новий головний елемент черги: " + headElement);
     }
+
+    /**
+     * Відбирає k найбільших і k найменших значень, переглядаючи масив як потік
+     * у вихідному порядку, без впорядкування всіх даних.
+     *
+     * Порівнюються обмежена {@link PriorityQueue} з об'єктами Integer та примітивна
+     * {@link IntBoundedHeap}; кількість значень задає властивість {@code query.k}.
+     */
+    private void selectTopKFromStream() {
+        if (intArray == null || intArray.length == 0) {
+            System.out.println("Масив є пустим або не ініціалізованим.");
+            return;
+        }
+
+        if (backing.usesPriorityQueue()) {
+            Integer[] top = PerformanceTracker.measure(TRACKER_GROUP, OperationType.TOP_K,
+                    "top-" + queryK + " потоку через обмежену PriorityQueue",
+                    () -> selectWithPriorityQueue(Comparator.naturalOrder()));
+            Integer[] bottom = PerformanceTracker.measure(TRACKER_GROUP, OperationType.TOP_K,
+                    "bottom-" + queryK + " потоку через обмежену PriorityQueue",
+                    () -> selectWithPriorityQueue(Comparator.reverseOrder()));
+            System.out.println(queryK + " найбільших значень (PriorityQueue): " + Arrays.toString(top));
+            System.out.println(queryK + " найменших значень (PriorityQueue): " + Arrays.toString(bottom));
+        }
+
+        int[] values = unboxedValues();
+        int[] top = PerformanceTracker.measure(BOUNDED_HEAP_TRACKER_GROUP, OperationType.TOP_K,
+                "top-" + queryK + " потоку через IntBoundedHeap", () -> {
+                    IntBoundedHeap heap = IntBoundedHeap.largest(queryK);
+                    heap.offerAll(values);
+                    return heap.toSortedArray();
+                });
+        int[] bottom = PerformanceTracker.measure(BOUNDED_HEAP_TRACKER_GROUP, OperationType.TOP_K,
+                "bottom-" + queryK + " потоку через IntBoundedHeap", () -> {
+                    IntBoundedHeap heap = IntBoundedHeap.smallest(queryK);
+                    heap.offerAll(values);
+                    return heap.toSortedArray();
+                });
+        System.out.println(queryK + " найбільших значень (IntBoundedHeap): " + Arrays.toString(top));
+        System.out.println(queryK + " найменших значень (IntBoundedHeap): " + Arrays.toString(bottom));
+    }
+
+    /**
+     * Відбирає k значень, що йдуть останніми за порядком {@code order}, зберігаючи в черзі
+     * не більше k елементів; результат упорядковано від найкращого.
+     */
+    private Integer[] selectWithPriorityQueue(Comparator<Integer> order) {
+        PriorityQueue<Integer> selected = new PriorityQueue<>(queryK + 1, order);
+        for (Integer value : intArray) {
+            if (selected.size() < queryK) {
+                selected.add(value);
+            } else if (order.compare(value, selected.peek()) > 0) {
+                selected.poll();
+                selected.add(value);
+            }
+        }
+        Integer[] result = new Integer[selected.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = selected.poll();
+        }
+        return result;
+    }
+
+    /**
+     * Здійснює пошук конкретного значення в купі IntMinMaxHeap.
+     */
+    private void findInMinMaxHeap() {
+        int valueToSearch = integerValueToSearch;
+        IntMinMaxHeap heap = minMaxHeap();
+        String indexNote = heap.hasMembershipIndex() ? " з індексом" : " без індексу";
+        boolean elementExists = PerformanceTracker.measure(HEAP_TRACKER_GROUP, OperationType.COLLECTION_SEARCH,
+                "пошук елемента в IntMinMaxHeap" + indexNote, () -> heap.contains(valueToSearch));
+
+        if (elementExists) {
+            System.out.println("Елемент '" + integerValueToSearch + "' знайдено в IntMinMaxHeap");
+        } else {
+            System.out.println("Елемент '" + integerValueToSearch + "' відсутній в IntMinMaxHeap.");
+        }
+    }
+
+    /**
+     * Визначає найменше та найбільше значення в купі без перегляду елементів.
+     */
+    private void locateMinMaxInMinMaxHeap() {
+        if (minMaxHeap().isEmpty()) {
+            System.out.println("Купа є пустою або не ініціалізованою.");
+            return;
+        }
+
+        int[] minMax = PerformanceTracker.measure(HEAP_TRACKER_GROUP, OperationType.COLLECTION_MIN_MAX,
+                "визначення мiнiмальної i максимальної дати в IntMinMaxHeap",
+                () -> new int[] { minMaxHeap().peekMin(), minMaxHeap().peekMax() });
+
+        System.out.println("Найменше значення в IntMinMaxHeap: " + minMax[0]);
+        System.out.println("Найбільше значення в IntMinMaxHeap: " + minMax[1]);
+    }
+
+    /**
+     * Виконує операції peek і poll з обох кінців купи.
+     */
+    private void performMinMaxHeapOperations() {
+        if (minMaxHeap().isEmpty()) {
+            System.out.println("Купа є пустою або не ініціалізованою.");
+            return;
+        }
+
+        System.out.println("Найменший елемент купи (peekMin): " + minMaxHeap().peekMin());
+        System.out.println("Видалений найменший елемент купи (pollMin): " + minMaxHeap().pollMin());
+        if (minMaxHeap().isEmpty()) {
+            return;
+        }
+        System.out.println("Новий найменший елемент купи: " + minMaxHeap().peekMin());
+
+        System.out.println("Найбільший елемент купи (peekMax): " + minMaxHeap().peekMax());
+        System.out.println("Видалений найбільший елемент купи (pollMax): " + minMaxHeap().pollMax());
+        if (!minMaxHeap().isEmpty()) {
+            System.out.println("Новий найбільший елемент купи: " + minMaxHeap().peekMax());
+        }
+    }
+
+    /**
+     * Повертає чергу PriorityQueue, будуючи її під час першого звернення.
+     */
+    private Queue<Integer> dateTimeQueue() {
+        if (dateTimeQueue == null) {
+            dateTimeQueue = PerformanceTracker.measure(TRACKER_GROUP, OperationType.CONSTRUCTION, "побудова PriorityQueue",
+                    () -> new PriorityQueue<>(Arrays.asList(intArray)));
+        }
+        return dateTimeQueue;
+    }
+
+    /**
+     * Повертає купу IntMinMaxHeap, будуючи її під час першого звернення.
+     */
+    private IntMinMaxHeap minMaxHeap() {
+        if (minMaxHeap == null) {
+            boolean withIndex = Boolean.parseBoolean(System.getProperty("queue.index", "true"));
+            minMaxHeap = PerformanceTracker.measure(HEAP_TRACKER_GROUP, OperationType.CONSTRUCTION, "побудова IntMinMaxHeap",
+                    () -> IntMinMaxHeap.of(unboxedValues(), withIndex));
+        }
+        return minMaxHeap;
+    }
+
+    private int[] unboxedValues() {
+        int[] values = new int[intArray.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = intArray[i];
+        }
+        return values;
+    }
 }
\ No newline at end of file
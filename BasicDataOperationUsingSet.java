@@ -1,26 +1,75 @@
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Locale;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
 
 /**
  * Клас BasicDataOperationUsingSet реалізує операції з множиною LinkedHashSet для Integer.
  * 
+ * <p>Множина може бути побудована як {@link LinkedHashSet}, як примітивна {@link IntHashSet}
+ * або як стиснута бітова {@link IntBitmapSet}. Реалізацію обирає системна властивість
+ * {@code set.backing}: {@code linked}, {@code int}, {@code bitmap}, {@code both}
+ * (LinkedHashSet та IntHashSet, за замовчуванням) або {@code all} (усі три), що дозволяє
+ * порівняти час пошуку та обсяг пам'яті.</p>
+ *
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataAnalysis()} - Запускає аналіз даних.</li>
  *   <li>{@link #performArraySorting()} - Упорядковує масив Integer.</li>
  *   <li>{@link #findInArray()} - Пошук значення в масиві Integer.</li>
  *   <li>{@link #locateMinMaxInArray()} - Знаходить граничні значення в масиві.</li>
- *   <li>{@link #findInSet()} - Пошук значення в множині Integer.</li>
- *   <li>{@link #locateMinMaxInSet()} - Знаходить мінімальне і максимальне значення в множині.</li>
- *   <li>{@link #analyzeArrayAndSet()} - Аналізує елементи масиву та множини.</li>
+ *   <li>{@link #analyzeSet(String, String, long, IntPredicate, Supplier)} - Аналізує одну реалізацію множини.</li>
+ *   <li>{@link #findInSet(String, String, IntPredicate)} - Пошук значення в множині.</li>
+ *   <li>{@link #locateMinMaxInSet(String, String, long, Supplier)} - Знаходить мінімальне і максимальне значення в множині.</li>
+ *   <li>{@link #analyzeArrayAndSet(String, long, IntPredicate)} - Аналізує елементи масиву та множини.</li>
+ *   <li>{@link #reportSetFootprint()} - Порівнює обсяг пам'яті побудованих реалізацій множини.</li>
  * </ul>
  */
 public class BasicDataOperationUsingSet {
+    private static final String TRACKER_GROUP = "Set";
+    private static final String PRIMITIVE_TRACKER_GROUP = "IntHashSet";
+    private static final String BITMAP_TRACKER_GROUP = "IntBitmapSet";
+
+    /**
+     * Реалізація множини, з якою виконується аналіз.
+     */
+    enum SetBacking {
+        LINKED, INT, BITMAP, BOTH, ALL;
+
+        /**
+         * @return Реалізація, задана системною властивістю {@code set.backing}
+         */
+        static SetBacking fromSystemProperty() {
+            String value = System.getProperty("set.backing", "both");
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Невідома реалізація множини '" + value + "', використано both.");
+                return BOTH;
+            }
+        }
+
+        boolean usesLinked() {
+            return this == LINKED || this == BOTH || this == ALL;
+        }
+
+        boolean usesPrimitive() {
+            return this == INT || this == BOTH || this == ALL;
+        }
+
+        boolean usesBitmap() {
+            return this == BITMAP || this == ALL;
+        }
+    }
+
     Integer integerValueToSearch;
     Integer[] intArray;
-    Set<Integer> dateTimeSet = new LinkedHashSet<>();
+    Set<Integer> dateTimeSet;
+    IntHashSet primitiveSet;
+    IntBitmapSet bitmapSet;
+    private final SetBacking backing = SetBacking.fromSystemProperty();
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -31,7 +80,6 @@ public class BasicDataOperationUsingSet {
     BasicDataOperationUsingSet(Integer integerValueToSearch, Integer[] intArray) {
         this.integerValueToSearch = integerValueToSearch;
         this.intArray = intArray;
-        this.dateTimeSet = new LinkedHashSet<>(Arrays.asList(intArray));
     }
     
     /**
@@ -41,9 +89,24 @@ public class BasicDataOperationUsingSet {
      */
     public void executeDataAnalysis() {
         // спочатку аналізуємо множину дати та часу
-        findInSet();
-        locateMinMaxInSet();
-        analyzeArrayAndSet();
+        if (backing.usesLinked()) {
+            Set<Integer> set = dateTimeSet();
+            analyzeSet(TRACKER_GROUP, "LinkedHashSet", set.size(), set::contains, () -> {
+                IntStatistics statistics = IntStatistics.ofBoxed(set);
+                return new int[] { statistics.min(), statistics.max() };
+            });
+        }
+        if (backing.usesPrimitive()) {
+            IntHashSet set = primitiveSet();
+            analyzeSet(PRIMITIVE_TRACKER_GROUP, "IntHashSet", set.size(), set::contains,
+                    () -> new int[] { set.min(), set.max() });
+        }
+        if (backing.usesBitmap()) {
+            IntBitmapSet set = bitmapSet();
+            analyzeSet(BITMAP_TRACKER_GROUP, "IntBitmapSet", set.cardinality(), set::contains,
+                    () -> new int[] { set.min(), set.max() });
+        }
+        reportSetFootprint();
 
         // потім обробляємо масив
         findInArray();
@@ -55,7 +118,7 @@ public class BasicDataOperationUsingSet {
         locateMinMaxInArray();
 
         // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(intArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
+        SortedResultCache.writeSortedOnce(intArray, BasicDataOperation.PATH_TO_DATA_FILE);
     }
 
     /**
@@ -63,22 +126,27 @@ public class BasicDataOperationUsingSet {
      * Фіксує та виводить тривалість операції сортування в наносекундах.
      */
     private void performArraySorting() {
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(intArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        if (SortedResultCache.isBypassedForTiming()) {
+            // кожна ітерація сортує відновлену копію, а не копіює результат з кешу
+            Integer[] unsortedCopy = intArray.clone();
+            PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT, "упорядкування масиву дати i часу",
+                    () -> System.arraycopy(unsortedCopy, 0, intArray, 0, intArray.length),
+                    () -> SortedResultCache.sortUncached(intArray));
+        } else if (SortedResultCache.copyCached(intArray, BasicDataOperation.PATH_TO_DATA_FILE)) {
+            // копіювання готового результату не є сортуванням, тому не записується як ARRAY_SORT
+            System.out.println("Повторне сортування пропущено: використано раніше впорядкований результат.");
+        } else {
+            PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT, "упорядкування масиву дати i часу",
+                    () -> SortedResultCache.sortInPlace(intArray, BasicDataOperation.PATH_TO_DATA_FILE));
+        }
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
      */
     private void findInArray() {
-        long timeStart = System.nanoTime();
-
-        int position = Arrays.binarySearch(this.intArray, integerValueToSearch);
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        int position = PerformanceTracker.measureInt(TRACKER_GROUP, OperationType.ARRAY_SEARCH, "пошук елемента в масивi дати i часу",
+                () -> Arrays.binarySearch(this.intArray, integerValueToSearch));
 
         if (position >= 0) {
             System.out.println("Елемент '" + integerValueToSearch + "' знайдено в масивi за позицією: " + position);
@@ -96,82 +164,150 @@ public class BasicDataOperationUsingSet {
             return;
         }
 
-        long timeStart = System.nanoTime();
+        IntStatistics statistics = PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_MIN_MAX,
+                "визначення мiнiмальної i максимальної дати в масивi",
+                () -> IntStatistics.ofBoxed(Arrays.asList(intArray)));
 
-        Integer minValue = intArray[0];
-        Integer maxValue = intArray[0];
-
-        for (Integer currentInteger : intArray) {
-            if (currentInteger < minValue) {
-                minValue = currentInteger;
-            }
-            if (currentInteger > maxValue) {
-                maxValue = currentInteger;
-            }
-        }
-
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
-
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        System.out.println("Найменше значення в масивi: " + statistics.min());
+        System.out.println("Найбільше значення в масивi: " + statistics.max());
     }
 
     /**
-     * Здійснює пошук конкретного значення в множині дати та часу.
+     * Виконує пошук, визначення граничних значень та порівняння з масивом для однієї реалізації множини.
+     *
+     * @param trackerGroup Група вимірювань реалізації
+     * @param setName Назва реалізації для виводу
+     * @param size Кількість елементів множини
+     * @param contains Перевірка наявності значення в множині
+     * @param minMax Обчислення найменшого та найбільшого значень множини
      */
-    private void findInSet() {
-        long timeStart = System.nanoTime();
-
-        boolean elementExists = this.dateTimeSet.contains(integerValueToSearch);
+    private void analyzeSet(String trackerGroup, String setName, long size, IntPredicate contains,
+            Supplier<int[]> minMax) {
+        findInSet(trackerGroup, setName, contains);
+        locateMinMaxInSet(trackerGroup, setName, size, minMax);
+        analyzeArrayAndSet(setName, size, contains);
+    }
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в LinkedHashSet дати i часу");
+    /**
+     * Здійснює пошук конкретного значення в множині цілих чисел.
+     */
+    private void findInSet(String trackerGroup, String setName, IntPredicate contains) {
+        int valueToSearch = integerValueToSearch;
+        boolean elementExists = PerformanceTracker.measure(trackerGroup, OperationType.COLLECTION_SEARCH,
+                "пошук цілого числа в " + setName, () -> contains.test(valueToSearch));
 
         if (elementExists) {
-            System.out.println("Елемент '" + integerValueToSearch + "' знайдено в LinkedHashSet");
+            System.out.println("Елемент '" + integerValueToSearch + "' знайдено в " + setName);
         } else {
-            System.out.println("Елемент '" + integerValueToSearch + "' відсутній в LinkedHashSet.");
+            System.out.println("Елемент '" + integerValueToSearch + "' відсутній в " + setName + ".");
         }
     }
 
     /**
-     * Визначає найменше та найбільше значення в множині Integer.
+     * Визначає найменше та найбільше значення в множині цілих чисел.
      */
-    private void locateMinMaxInSet() {
-        if (dateTimeSet == null || dateTimeSet.isEmpty()) {
-            System.out.println("LinkedHashSet є пустим або не ініціалізованим.");
+    private void locateMinMaxInSet(String trackerGroup, String setName, long size, Supplier<int[]> minMax) {
+        if (size == 0) {
+            System.out.println(setName + " є пустим або не ініціалізованим.");
             return;
         }
 
-        long timeStart = System.nanoTime();
-
-        Integer minValue = Collections.min(dateTimeSet);
-        Integer maxValue = Collections.max(dateTimeSet);
+        int[] bounds = PerformanceTracker.measure(trackerGroup, OperationType.COLLECTION_MIN_MAX,
+                "визначення мiнiмального i максимального значення в " + setName, minMax);
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в LinkedHashSet");
-
-        System.out.println("Найменше значення в LinkedHashSet: " + minValue);
-        System.out.println("Найбільше значення в LinkedHashSet: " + maxValue);
+        System.out.println("Найменше значення в " + setName + ": " + bounds[0]);
+        System.out.println("Найбільше значення в " + setName + ": " + bounds[1]);
     }
 
     /**
      * Аналізує та порівнює елементи масиву та множини.
      */
-    private void analyzeArrayAndSet() {
+    private void analyzeArrayAndSet(String setName, long size, IntPredicate contains) {
         System.out.println("Кiлькiсть елементiв в масивi: " + intArray.length);
-        System.out.println("Кiлькiсть елементiв в LinkedHashSet: " + dateTimeSet.size());
+        System.out.println("Кiлькiсть елементiв в " + setName + ": " + size);
 
         boolean allElementsPresent = true;
-        for (Integer dateTimeElement : intArray) {
-            if (!dateTimeSet.contains(dateTimeElement)) {
+        for (Integer value : intArray) {
+            if (!contains.test(value)) {
                 allElementsPresent = false;
                 break;
             }
         }
 
         if (allElementsPresent) {
-            System.out.println("Всi елементи масиву наявні в LinkedHashSet.");
+            System.out.println("Всi елементи масиву наявні в " + setName + ".");
         } else {
-            System.out.println("Не всi елементи масиву наявні в LinkedHashSet.");
+            System.out.println("Не всi елементи масиву наявні в " + setName + ".");
+        }
+    }
+
+    /**
+     * Виводить оцінку обсягу пам'яті побудованих реалізацій множини для тих самих даних.
+     *
+     * Для LinkedHashSet враховано таблицю, вузли LinkedHashMap.Entry (40 байтів)
+     * та об'єкти Integer (16 байтів), що стають зайвими при примітивному зберіганні.
+     */
+    private void reportSetFootprint() {
+        if (backing.usesLinked()) {
+            int size = dateTimeSet().size();
+            int tableCapacity = Integer.highestOneBit(Math.max((int) (size / 0.75f) + 1, 16) - 1) << 1;
+            long linkedBytes = 72L + 16L + (long) tableCapacity * Integer.BYTES + (long) size * (40 + 16);
+            printFootprint("LinkedHashSet", linkedBytes, size);
+        }
+        if (backing.usesPrimitive()) {
+            printFootprint("IntHashSet", primitiveSet().memoryFootprintBytes(), primitiveSet().size());
+        }
+        if (backing.usesBitmap()) {
+            printFootprint("IntBitmapSet", bitmapSet().memoryFootprintBytes(), bitmapSet().cardinality());
+            System.out.println("Будова IntBitmapSet: " + bitmapSet().containerStatistics());
+        }
+    }
+
+    private static void printFootprint(String structureName, long bytes, long size) {
+        System.out.println("Оцінка пам'яті " + structureName + ": " + bytes + " байтів ("
+                + String.format("%.1f", size == 0 ? 0.0 : (double) bytes / size) + " на елемент)");
+    }
+
+    /**
+     * Повертає множину LinkedHashSet, будуючи її під час першого звернення.
+     */
+    private Set<Integer> dateTimeSet() {
+        if (dateTimeSet == null) {
+            dateTimeSet = PerformanceTracker.measure(TRACKER_GROUP, OperationType.CONSTRUCTION, "побудова LinkedHashSet",
+                    () -> new LinkedHashSet<>(Arrays.asList(intArray)));
+        }
+        return dateTimeSet;
+    }
+
+    /**
+     * Повертає множину IntHashSet, будуючи її під час першого звернення.
+     */
+    private IntHashSet primitiveSet() {
+        if (primitiveSet == null) {
+            primitiveSet = PerformanceTracker.measure(PRIMITIVE_TRACKER_GROUP, OperationType.CONSTRUCTION, "побудова IntHashSet",
+                    () -> {
+                        IntHashSet set = new IntHashSet(intArray.length);
+                        for (Integer value : intArray) {
+                            set.add(value);
+                        }
+                        return set;
+                    });
+        }
+        return primitiveSet;
+    }
+
+    /**
+     * Повертає множину IntBitmapSet, будуючи її під час першого звернення.
+     */
+    private IntBitmapSet bitmapSet() {
+        if (bitmapSet == null) {
+            int[] values = new int[intArray.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = intArray[i];
+            }
+            bitmapSet = PerformanceTracker.measure(BITMAP_TRACKER_GROUP, OperationType.CONSTRUCTION, "побудова IntBitmapSet",
+                    () -> IntBitmapSet.of(values));
         }
+        return bitmapSet;
     }
 }
\ No newline at end of file
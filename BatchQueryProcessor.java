@@ -0,0 +1,185 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * Клас BatchQueryProcessor відповідає на пакет пошукових запитів до одного впорядкованого масиву.
+ *
+ * <p>Для кожного запиту визначається позиція першого входження значення у впорядкованому
+ * масиві або -1, якщо значення відсутнє. Великі пакети обробляються з'єднанням злиттям:
+ * запити впорядковуються разом зі своїми номерами і масив проходиться один раз. Малі пакети
+ * обробляються паралельним двійковим пошуком блоками, і результати кожного блоку одразу
+ * записуються у вихідний потік.</p>
+ */
+public class BatchQueryProcessor {
+    private static final int SEARCH_BLOCK_SIZE = 1 << 16;
+    private static final int LINE_PREVIEW_LENGTH = 64;
+
+    /**
+     * Спосіб обробки пакета запитів.
+     */
+    enum Strategy {
+        AUTO, MERGE, SEARCH;
+
+        /**
+         * @return Спосіб, заданий системною властивістю {@code batch.strategy}
+         */
+        static Strategy fromSystemProperty() {
+            String value = System.getProperty("batch.strategy", "auto");
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Невідомий спосіб обробки запитів '" + value + "', використано auto.");
+                return AUTO;
+            }
+        }
+    }
+
+    private final int[] sortedValues;
+
+    /**
+     * @param sortedValues Впорядкований за зростанням масив даних
+     */
+    BatchQueryProcessor(int[] sortedValues) {
+        this.sortedValues = sortedValues;
+    }
+
+    /**
+     * Обирає спосіб обробки для пакета заданого розміру.
+     *
+     * <p>З'єднання злиттям коштує O(q log q + n), двійковий пошук — O(q log n);
+     * обирається дешевший варіант.</p>
+     *
+     * @param strategy Бажаний спосіб
+     * @param queryCount Кількість запитів
+     * @return Конкретний спосіб обробки
+     */
+    Strategy resolve(Strategy strategy, int queryCount) {
+        if (strategy != Strategy.AUTO) {
+            return strategy;
+        }
+        double mergeCost = queryCount * log2(queryCount) + sortedValues.length;
+        double searchCost = queryCount * log2(sortedValues.length);
+        return mergeCost < searchCost ? Strategy.MERGE : Strategy.SEARCH;
+    }
+
+    /**
+     * Відповідає на всі запити та записує результати у порядку запитів,
+     * по одному рядку {@code значення<TAB>позиція}.
+     *
+     * @param queries Значення для пошуку
+     * @param strategy Спосіб обробки
+     * @param output Потік для результатів
+     * @return Кількість знайдених значень
+     * @throws IOException Якщо результати не вдалося записати
+     */
+    public long answer(int[] queries, Strategy strategy, Writer output) throws IOException {
+        if (resolve(strategy, queries.length) == Strategy.MERGE) {
+            int[] positions = mergeJoin(queries);
+            return writeResults(queries, 0, queries.length, positions, 0, output);
+        }
+
+        long foundCount = 0;
+        int[] positions = new int[Math.min(SEARCH_BLOCK_SIZE, queries.length)];
+        for (int blockStart = 0; blockStart < queries.length; blockStart += SEARCH_BLOCK_SIZE) {
+            int blockEnd = Math.min(blockStart + SEARCH_BLOCK_SIZE, queries.length);
+            int offset = blockStart;
+            IntStream.range(0, blockEnd - blockStart).parallel()
+                    .forEach(i -> positions[i] = IntArraySearch.firstPosition(sortedValues, queries[offset + i]));
+            foundCount += writeResults(queries, blockStart, blockEnd, positions, blockStart, output);
+        }
+        return foundCount;
+    }
+
+    /**
+     * Знаходить позиції всіх запитів одним проходом по масиву.
+     *
+     * <p>Значення запиту (у старших 32 бітах) і його номер (у молодших) пакуються в одне число
+     * long, тому запити впорядковуються без створення об'єктів.</p>
+     */
+    int[] mergeJoin(int[] queries) {
+        long[] orderedQueries = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            orderedQueries[i] = ((long) queries[i] << 32) | i;
+        }
+        Arrays.parallelSort(orderedQueries);
+
+        int[] positions = new int[queries.length];
+        int dataIndex = 0;
+        for (long packedQuery : orderedQueries) {
+            int value = (int) (packedQuery >> 32);
+            while (dataIndex < sortedValues.length && sortedValues[dataIndex] < value) {
+                dataIndex++;
+            }
+            boolean found = dataIndex < sortedValues.length && sortedValues[dataIndex] == value;
+            positions[(int) packedQuery] = found ? dataIndex : -1;
+        }
+        return positions;
+    }
+
+    /**
+     * Читає значення запитів з файлу або, для шляху {@code -}, зі стандартного введення.
+     *
+     * @param source Шлях до файлу або {@code -}
+     * @return Масив значень запитів
+     * @throws IOException Якщо запити не вдалося прочитати
+     * @throws NumberFormatException Якщо рядок не є цілим числом int
+     */
+    static int[] readQueries(String source) throws IOException {
+        if (!"-".equals(source)) {
+            return MappedIntFileParser.parse(source);
+        }
+
+        IntArrayBuffer queries = new IntArrayBuffer();
+        BufferedReader inputReader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        for (String currentLine = inputReader.readLine(); currentLine != null; currentLine = inputReader.readLine()) {
+            lineNumber++;
+            if (lineNumber == 1 && !currentLine.isEmpty() && currentLine.charAt(0) == '\uFEFF') {
+                currentLine = currentLine.substring(1);
+            }
+            currentLine = currentLine.trim();
+            if (currentLine.isEmpty()) {
+                continue;
+            }
+            try {
+                queries.add(Integer.parseInt(currentLine));
+            } catch (NumberFormatException e) {
+                String preview = currentLine.length() > LINE_PREVIEW_LENGTH
+                        ? currentLine.substring(0, LINE_PREVIEW_LENGTH) : currentLine;
+                throw new NumberFormatException("Некоректне значення int у рядку " + lineNumber + ": \"" + preview + "\"");
+            }
+        }
+        return queries.drainToArray();
+    }
+
+    /**
+     * Записує результати запитів з номерами від {@code from} до {@code to}; позиція запиту
+     * {@code i} зберігається в {@code positions[i - positionOffset]}.
+     */
+    private static long writeResults(int[] queries, int from, int to, int[] positions, int positionOffset,
+            Writer output) throws IOException {
+        long foundCount = 0;
+        for (int i = from; i < to; i++) {
+            int position = positions[i - positionOffset];
+            if (position >= 0) {
+                foundCount++;
+            }
+            output.write(Integer.toString(queries[i]));
+            output.write('\t');
+            output.write(Integer.toString(position));
+            output.write('\n');
+        }
+        output.flush();
+        return foundCount;
+    }
+
+    private static double log2(int value) {
+        return Math.log(Math.max(value, 2)) / Math.log(2);
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Клас BinarySearchIndex виконує двійковий пошук безпосередньо у впорядкованому масиві.
+ *
+ * <p>На відміну від {@link java.util.Arrays#binarySearch(int[], int)}, для повторюваних
+ * значень завжди повертає позицію першого входження, як і інші реалізації {@link SearchIndex}.</p>
+ */
+public class BinarySearchIndex implements SearchIndex {
+    private final int[] sortedValues;
+
+    /**
+     * @param sortedValues Впорядкований за зростанням масив (не копіюється)
+     */
+    BinarySearchIndex(int[] sortedValues) {
+        this.sortedValues = sortedValues;
+    }
+
+    @Override
+    public int search(int value) {
+        int position = IntArraySearch.lowerBound(sortedValues, value);
+        return position < sortedValues.length && sortedValues[position] == value ? position : -position - 1;
+    }
+
+    @Override
+    public String name() {
+        return BINARY;
+    }
+
+    @Override
+    public long memoryFootprintBytes() {
+        return 16;
+    }
+}
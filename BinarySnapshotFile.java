@@ -0,0 +1,272 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Клас BinarySnapshotFile зберігає та завантажує масиви int у компактному двійковому форматі.
+ *
+ * <p>Файл складається з заголовка фіксованого розміру та масиву значень int у порядку
+ * little-endian. Заголовок містить кількість елементів, мінімум, максимум, ознаку
+ * впорядкованості, контрольну суму CRC32C вмісту, а також розмір і час зміни вихідного
+ * текстового файлу, за якими визначається актуальність знімка.</p>
+ *
+ * <p>Знімок записується у тимчасовий файл і атомарно замінює попередній (див. {@link AtomicFiles}),
+ * тому збій під час запису не знищує попередній коректний знімок, а паралельний завантажувач
+ * не бачить частково записаного файлу.</p>
+ *
+ * <pre>
+ * зміщення  розмір  поле
+ *  0        4       сигнатура "IDSB"
+ *  4        2       версія формату
+ *  6        2       прапорці (біт 0 - масив упорядкований)
+ *  8        8       кількість елементів
+ * 16        4       мінімальне значення
+ * 20        4       максимальне значення
+ * 24        4       CRC32C вмісту
+ * 28        4       резерв
+ * 32        8       розмір вихідного файлу в байтах
+ * 40        8       час зміни вихідного файлу в мілісекундах
+ * 48       16       резерв
+ * </pre>
+ */
+public class BinarySnapshotFile {
+    static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private static final int MAGIC = 0x42534449;
+    private static final short FORMAT_VERSION = 1;
+    private static final short FLAG_SORTED = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int PAYLOAD_BLOCK_INTS = 1 << 22;
+    private static final long MAX_MAPPED_INTS = (Integer.MAX_VALUE / Integer.BYTES) & ~0xFFFL;
+
+    private BinarySnapshotFile() {
+    }
+
+    /**
+     * Заголовок двійкового знімка.
+     */
+    static final class Header {
+        final long count;
+        final int minValue;
+        final int maxValue;
+        final boolean sorted;
+        final int checksum;
+        final long sourceLength;
+        final long sourceModified;
+
+        Header(long count, int minValue, int maxValue, boolean sorted, int checksum,
+                long sourceLength, long sourceModified) {
+            this.count = count;
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+            this.sorted = sorted;
+            this.checksum = checksum;
+            this.sourceLength = sourceLength;
+            this.sourceModified = sourceModified;
+        }
+    }
+
+    /**
+     * Записує масив у двійковий знімок, пов'язаний з вихідним текстовим файлом.
+     *
+     * <p>Заголовок і вміст записуються однією операцією gather-запису каналу.</p>
+     *
+     * @param values Масив значень
+     * @param snapshotPath Шлях до файлу знімка
+     * @param sourcePath Шлях до вихідного текстового файлу
+     * @throws IOException Якщо знімок не вдалося записати
+     */
+    public static void write(int[] values, String snapshotPath, String sourcePath) throws IOException {
+        Path source = Path.of(sourcePath);
+        write(values, snapshotPath, Files.size(source), Files.getLastModifiedTime(source).toMillis());
+    }
+
+    /**
+     * Записує масив у двійковий знімок із заданими розміром і часом зміни вихідного файлу.
+     *
+     * <p>Використовується, коли знімок відповідає стану файлу на момент читання, а не запису:
+     * якщо файл змінився після читання, знімок не вважатиметься актуальним.</p>
+     *
+     * @param values Масив значень
+     * @param snapshotPath Шлях до файлу знімка
+     * @param sourceLength Розмір вихідного файлу в байтах, з якого отримано значення
+     * @param sourceModified Час зміни вихідного файлу в мілісекундах
+     * @throws IOException Якщо знімок не вдалося записати
+     */
+    public static void write(int[] values, String snapshotPath, long sourceLength, long sourceModified)
+            throws IOException {
+        int blockCount = (values.length + PAYLOAD_BLOCK_INTS - 1) / PAYLOAD_BLOCK_INTS;
+        ByteBuffer[] buffers = new ByteBuffer[blockCount + 1];
+
+        // заповнюємо вміст блоками, паралельно визначаючи граничні значення та впорядкованість
+        CRC32C payloadChecksum = new CRC32C();
+        int minValue = values.length > 0 ? values[0] : 0;
+        int maxValue = minValue;
+        boolean sorted = true;
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * PAYLOAD_BLOCK_INTS;
+            int to = Math.min(values.length, from + PAYLOAD_BLOCK_INTS);
+            ByteBuffer payload = ByteBuffer.allocateDirect((to - from) * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            payload.asIntBuffer().put(values, from, to - from);
+            for (int i = from; i < to; i++) {
+                int value = values[i];
+                if (value < minValue) {
+                    minValue = value;
+                }
+                if (value > maxValue) {
+                    maxValue = value;
+                }
+                if (i > 0 && values[i - 1] > value) {
+                    sorted = false;
+                }
+            }
+            payloadChecksum.update(payload.duplicate());
+            buffers[block + 1] = payload;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putShort(FORMAT_VERSION)
+                .putShort(sorted ? FLAG_SORTED : 0)
+                .putLong(values.length)
+                .putInt(minValue)
+                .putInt(maxValue)
+                .putInt((int) payloadChecksum.getValue())
+                .putInt(0)
+                .putLong(sourceLength)
+                .putLong(sourceModified);
+        header.clear();
+        buffers[0] = header;
+
+        Path target = Path.of(snapshotPath);
+        Path temporaryFile = AtomicFiles.createTemporaryFile(target);
+        boolean written = false;
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                long expectedBytes = HEADER_SIZE + (long) values.length * Integer.BYTES;
+                long writtenBytes = 0;
+                while (writtenBytes < expectedBytes) {
+                    writtenBytes += channel.write(buffers);
+                }
+            }
+            AtomicFiles.moveIntoPlace(temporaryFile, target);
+            written = true;
+        } finally {
+            if (!written) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    /**
+     * Зчитує заголовок знімка.
+     *
+     * @param snapshotPath Шлях до файлу знімка
+     * @return Заголовок або {@code null}, якщо файл відсутній чи має невідомий формат
+     */
+    static Header readHeader(String snapshotPath) {
+        Path snapshot = Path.of(snapshotPath);
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                return null;
+            }
+            ByteBuffer headerBytes = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (headerBytes.hasRemaining() && channel.read(headerBytes, headerBytes.position()) > 0) {
+                // дочитуємо заголовок повністю
+            }
+            Header header = decodeHeader(headerBytes.flip());
+            if (header == null || channel.size() != HEADER_SIZE + header.count * Integer.BYTES) {
+                return null;
+            }
+            return header;
+        } catch (IOException ioException) {
+            return null;
+        }
+    }
+
+    /**
+     * Перевіряє, чи відповідає знімок поточному стану вихідного файлу.
+     *
+     * @param snapshotPath Шлях до файлу знімка
+     * @param sourcePath Шлях до вихідного текстового файлу
+     * @return {@code true}, якщо знімок існує, коректний і створений з поточної версії файлу
+     */
+    public static boolean isFresh(String snapshotPath, String sourcePath) {
+        Header header = readHeader(snapshotPath);
+        if (header == null) {
+            return false;
+        }
+        try {
+            Path source = Path.of(sourcePath);
+            return header.sourceLength == Files.size(source)
+                    && header.sourceModified == Files.getLastModifiedTime(source).toMillis();
+        } catch (IOException ioException) {
+            return false;
+        }
+    }
+
+    /**
+     * Завантажує масив зі знімка через відображення файлу в пам'ять, без розбору тексту.
+     *
+     * @param snapshotPath Шлях до файлу знімка
+     * @return Масив значень int
+     * @throws IOException Якщо файл пошкоджено або не вдалося прочитати
+     */
+    public static int[] load(String snapshotPath) throws IOException {
+        Header header = readHeader(snapshotPath);
+        if (header == null) {
+            throw new IOException("Файл не є коректним двійковим знімком: " + snapshotPath);
+        }
+        if (header.count > Integer.MAX_VALUE - 8) {
+            throw new IOException("Знімок містить забагато елементів для масиву int: " + header.count);
+        }
+
+        int[] values = new int[(int) header.count];
+        CRC32C payloadChecksum = new CRC32C();
+        try (FileChannel channel = FileChannel.open(Path.of(snapshotPath), StandardOpenOption.READ)) {
+            int loaded = 0;
+            while (loaded < values.length) {
+                int segmentInts = (int) Math.min(values.length - loaded, MAX_MAPPED_INTS);
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + (long) loaded * Integer.BYTES, (long) segmentInts * Integer.BYTES);
+                payloadChecksum.update(segment.duplicate());
+                IntBuffer segmentValues = segment.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                segmentValues.get(values, loaded, segmentInts);
+                loaded += segmentInts;
+            }
+        }
+
+        if ((int) payloadChecksum.getValue() != header.checksum) {
+            throw new IOException("Контрольна сума знімка не збігається: " + snapshotPath);
+        }
+        return values;
+    }
+
+    private static Header decodeHeader(ByteBuffer headerBytes) {
+        if (headerBytes.getInt() != MAGIC || headerBytes.getShort() != FORMAT_VERSION) {
+            return null;
+        }
+        boolean sorted = (headerBytes.getShort() & FLAG_SORTED) != 0;
+        long count = headerBytes.getLong();
+        int minValue = headerBytes.getInt();
+        int maxValue = headerBytes.getInt();
+        int checksum = headerBytes.getInt();
+        headerBytes.getInt();
+        long sourceLength = headerBytes.getLong();
+        long sourceModified = headerBytes.getLong();
+        if (count < 0) {
+            return null;
+        }
+        return new Header(count, minValue, maxValue, sorted, checksum, sourceLength, sourceModified);
+    }
+}
@@ -0,0 +1,207 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Клас ConcurrentAnalysisRunner виконує незалежні задачі аналізу паралельно на фіксованому пулі потоків.
+ *
+ * <p>Поки задачі виконуються, {@code System.out} і {@code System.err} перенаправляються: кожен
+ * потік задачі пише у власні буфери, а після завершення всіх задач буфери виводяться в порядку
+ * додавання задач. Тому звіт, зокрема повідомлення про помилки, не залежить від того, яка задача
+ * завершилась першою. Групи таймерів кожної задачі отримують номер розділу {@link PerformanceTracker},
+ * що зберігає порядок стовпців у підсумку.</p>
+ *
+ * <p>На час виконання задачі сортують власні копії даних без {@link SortedResultCache}, щоб
+ * тривалість сортування кожної задачі не залежала від того, яка з них першою заповнила кеш.</p>
+ */
+public class ConcurrentAnalysisRunner {
+    private final List<String> titles = new ArrayList<>();
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final int threadCount;
+
+    /**
+     * Створює виконавця з кількістю потоків з властивості {@code analysis.threads}
+     * або за кількістю доступних процесорів.
+     */
+    ConcurrentAnalysisRunner() {
+        this(Integer.getInteger("analysis.threads", Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * @param threadCount Найбільша кількість одночасно виконуваних задач
+     */
+    ConcurrentAnalysisRunner(int threadCount) {
+        this.threadCount = Math.max(threadCount, 1);
+    }
+
+    /**
+     * Додає задачу до виконання.
+     *
+     * @param title Назва задачі для звіту
+     * @param task Задача
+     */
+    public void addTask(String title, Runnable task) {
+        titles.add(title);
+        tasks.add(task);
+    }
+
+    /**
+     * Виконує всі задачі та виводить їхні звіти в порядку додавання.
+     *
+     * @param separator Рядок, що виводиться між звітами задач
+     */
+    public void runAll(String separator) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        ThreadRoutedOutputStream routedStream = new ThreadRoutedOutputStream(originalOut);
+        ThreadRoutedOutputStream routedErrorStream = new ThreadRoutedOutputStream(originalErr);
+        PrintStream routedOut = createPrintStream(routedStream);
+        PrintStream routedErr = createPrintStream(routedErrorStream);
+        ByteArrayOutputStream[] reports = new ByteArrayOutputStream[tasks.size()];
+        ByteArrayOutputStream[] errorReports = new ByteArrayOutputStream[tasks.size()];
+        long[] taskDurations = new long[tasks.size()];
+
+        int poolSize = Math.min(threadCount, tasks.size());
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        long startTime = System.nanoTime();
+        System.setOut(routedOut);
+        System.setErr(routedErr);
+        SortedResultCache.setConcurrentTiming(true);
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                int taskIndex = i;
+                reports[taskIndex] = new ByteArrayOutputStream();
+                errorReports[taskIndex] = new ByteArrayOutputStream();
+                futures.add(executor.submit(() -> {
+                    routedErrorStream.routeCurrentThread(errorReports[taskIndex]);
+                    try {
+                        runTask(taskIndex, reports[taskIndex], routedStream, routedOut, taskDurations);
+                    } finally {
+                        routedErr.flush();
+                        routedErrorStream.routeCurrentThread(null);
+                    }
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    originalOut.println("❌ Помилка при виконанні задачі '" + titles.get(i) + "': " + e.getCause());
+                    e.getCause().printStackTrace();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            originalOut.println("❌ Паралельне виконання перервано.");
+        } finally {
+            executor.shutdownNow();
+            SortedResultCache.setConcurrentTiming(false);
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+        long wallTime = System.nanoTime() - startTime;
+
+        long totalTaskTime = 0;
+        for (int i = 0; i < reports.length; i++) {
+            if (i > 0) {
+                originalOut.println(separator);
+            }
+            byte[] reportBytes = reports[i].toByteArray();
+            originalOut.write(reportBytes, 0, reportBytes.length);
+            byte[] errorBytes = errorReports[i].toByteArray();
+            if (errorBytes.length > 0) {
+                // помилки задачі виводяться одразу після її звіту
+                originalOut.flush();
+                originalErr.write(errorBytes, 0, errorBytes.length);
+                originalErr.flush();
+            }
+            totalTaskTime += taskDurations[i];
+        }
+        originalOut.flush();
+
+        System.out.println("\n⏱ Паралельне виконання " + tasks.size() + " задач на " + poolSize + " потоках: "
+                + wallTime / 1_000_000 + " мс (сума часу задач: " + totalTaskTime / 1_000_000 + " мс)");
+    }
+
+    private void runTask(int taskIndex, ByteArrayOutputStream report, ThreadRoutedOutputStream routedStream,
+            PrintStream routedOut, long[] taskDurations) {
+        routedStream.routeCurrentThread(report);
+        PerformanceTracker.setGroupSection(taskIndex + 1);
+        long taskStart = System.nanoTime();
+        try {
+            tasks.get(taskIndex).run();
+        } finally {
+            taskDurations[taskIndex] = System.nanoTime() - taskStart;
+            routedOut.flush();
+            PerformanceTracker.setGroupSection(0);
+            routedStream.routeCurrentThread(null);
+        }
+    }
+
+    private static PrintStream createPrintStream(OutputStream target) {
+        String encoding = System.getProperty("sun.stdout.encoding");
+        if (encoding != null && Charset.isSupported(encoding)) {
+            try {
+                return new PrintStream(target, true, encoding);
+            } catch (UnsupportedEncodingException e) {
+                e.printStackTrace();
+            }
+        }
+        return new PrintStream(target, true);
+    }
+
+    /**
+     * Потік виведення, що пише в буфер поточного потоку виконання,
+     * а для потоків без буфера — у вихідний потік.
+     */
+    private static final class ThreadRoutedOutputStream extends OutputStream {
+        private final OutputStream fallback;
+        private final ThreadLocal<OutputStream> target = new ThreadLocal<>();
+
+        ThreadRoutedOutputStream(OutputStream fallback) {
+            this.fallback = fallback;
+        }
+
+        void routeCurrentThread(OutputStream buffer) {
+            if (buffer == null) {
+                target.remove();
+            } else {
+                target.set(buffer);
+            }
+        }
+
+        private OutputStream current() {
+            OutputStream buffer = target.get();
+            return buffer == null ? fallback : buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            current().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            current().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            current().flush();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Клас ConcurrentIntStore є множиною значень int, яку одночасно змінюють потоки запису
+ * і читають потоки пошуку.
+ *
+ * <p>Для перевірки наявності значення розподіляються за хешем між смугами; кожна смуга є
+ * множиною {@link IntHashSet} під власним {@link StampedLock}. Читання спершу виконується
+ * оптимістично, без блокування: якщо за цей час смугу ніхто не змінював, результат
+ * приймається, інакше пошук повторюється під блокуванням читання. Тому гарячий шлях
+ * читання не записує в спільну пам'ять і масштабується з кількістю ядер, а потоки запису
+ * блокують лише одну смугу.</p>
+ *
+ * <p>Для впорядкованого доступу (мінімум, максимум, діапазони) значення також зберігаються
+ * у неблокуючому списку з пропусками {@link ConcurrentSkipListSet}. Обидві структури
+ * оновлюються під блокуванням запису смуги значення, тому для кожного значення вони
+ * узгоджені після завершення операції; запит, виконаний паралельно з оновленням, може
+ * побачити значення лише в одній з них.</p>
+ *
+ * <p>Кількість смуг задається системною властивістю {@code store.stripes} (за замовчуванням
+ * найменший степінь двійки, не менший за вчетверо збільшену кількість процесорів).</p>
+ */
+public class ConcurrentIntStore {
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final ConcurrentSkipListSet<Integer> sortedValues = new ConcurrentSkipListSet<>();
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Смуга множини: частина значень під власним блокуванням.
+     */
+    private static final class Stripe {
+        final StampedLock lock = new StampedLock();
+        final IntHashSet values = new IntHashSet();
+    }
+
+    /**
+     * Створює порожнє сховище з кількістю смуг за замовчуванням.
+     */
+    ConcurrentIntStore() {
+        this(Integer.getInteger("store.stripes", Runtime.getRuntime().availableProcessors() * 4));
+    }
+
+    /**
+     * @param stripeCount Кількість смуг; округлюється вгору до степеня двійки
+     */
+    ConcurrentIntStore(int stripeCount) {
+        int count = Integer.highestOneBit(Math.max(stripeCount, 1) * 2 - 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = count - 1;
+    }
+
+    /**
+     * Створює сховище з елементів масиву.
+     *
+     * @param values Масив значень
+     * @return Сховище унікальних значень масиву
+     */
+    public static ConcurrentIntStore of(int[] values) {
+        ConcurrentIntStore store = new ConcurrentIntStore();
+        for (int value : values) {
+            store.add(value);
+        }
+        return store;
+    }
+
+    /**
+     * Додає значення.
+     *
+     * @param value Значення для додавання
+     * @return {@code true}, якщо значення було відсутнє
+     */
+    public boolean add(int value) {
+        Stripe stripe = stripeFor(value);
+        long stamp = stripe.lock.writeLock();
+        try {
+            if (!stripe.values.add(value)) {
+                return false;
+            }
+            sortedValues.add(value);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+        size.increment();
+        return true;
+    }
+
+    /**
+     * Видаляє значення.
+     *
+     * @param value Значення для видалення
+     * @return {@code true}, якщо значення було присутнє
+     */
+    public boolean remove(int value) {
+        Stripe stripe = stripeFor(value);
+        long stamp = stripe.lock.writeLock();
+        try {
+            if (!stripe.values.remove(value)) {
+                return false;
+            }
+            sortedValues.remove(value);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+        size.decrement();
+        return true;
+    }
+
+    /**
+     * Перевіряє наявність значення; зазвичай без блокування.
+     *
+     * @param value Значення для пошуку
+     * @return {@code true}, якщо значення присутнє
+     */
+    public boolean contains(int value) {
+        Stripe stripe = stripeFor(value);
+        long stamp = stripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            boolean present = stripe.values.contains(value);
+            if (stripe.lock.validate(stamp)) {
+                return present;
+            }
+        }
+
+        stamp = stripe.lock.readLock();
+        try {
+            return stripe.values.contains(value);
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return Найменше значення
+     * @throws IllegalStateException Якщо сховище порожнє
+     */
+    public int min() {
+        try {
+            return sortedValues.first();
+        } catch (NoSuchElementException e) {
+            throw new IllegalStateException("Сховище порожнє");
+        }
+    }
+
+    /**
+     * @return Найбільше значення
+     * @throws IllegalStateException Якщо сховище порожнє
+     */
+    public int max() {
+        try {
+            return sortedValues.last();
+        } catch (NoSuchElementException e) {
+            throw new IllegalStateException("Сховище порожнє");
+        }
+    }
+
+    /**
+     * Підраховує значення в діапазоні [from, to] обходом списку з пропусками.
+     *
+     * @param from Нижня межа включно
+     * @param to Верхня межа включно
+     * @return Кількість значень у діапазоні або 0, якщо from більше за to
+     */
+    public int countInRange(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        int count = 0;
+        for (Integer ignored : sortedValues.subSet(from, true, to, true)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Повертає значення діапазону [from, to] у порядку зростання, не більше заданої кількості.
+     *
+     * @param from Нижня межа включно
+     * @param to Верхня межа включно
+     * @param limit Найбільша кількість значень
+     * @return Масив значень діапазону
+     */
+    public int[] valuesInRange(int from, int to, int limit) {
+        if (from > to || limit <= 0) {
+            return new int[0];
+        }
+        NavigableSet<Integer> range = sortedValues.subSet(from, true, to, true);
+        IntArrayBuffer result = new IntArrayBuffer(Math.min(limit, 16));
+        for (Integer value : range) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(value);
+        }
+        return result.drainToArray();
+    }
+
+    /**
+     * @return Кількість значень (під час паралельних змін — наближена)
+     */
+    public long size() {
+        return size.sum();
+    }
+
+    /**
+     * @return Кількість смуг
+     */
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    private Stripe stripeFor(int value) {
+        int hash = value * 0x9E3779B9;
+        return stripes[(hash >>> 16) & stripeMask];
+    }
+}
@@ -1,41 +1,40 @@
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Клас DataFileHandler управляє роботою з файлами даних Integer.
+ * 
+ * <p>Для файлів інших типів ({@link TypedDataPipeline}) значення читаються та записуються
+ * як текстові рядки, а перетворення виконує відповідний {@link ValueCodec}.</p>
  */
 public class DataFileHandler {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final int SAMPLE_SIZE = 1 << 16;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
     /**
      * Завантажує масив об'єктів Integer з файлу.
      * 
+     * <p>Кількість елементів не обмежена: значення спочатку читаються у примітивний
+     * буфер, що розширюється, і лише потім упаковуються в масив точного розміру.</p>
+     * 
      * @param filePath Шлях до файлу з даними.
      * @return Масив об'єктів Integer.
      */
     public static Integer[] loadArrayFromFile(String filePath) {
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ISO_DATE_TIME;
-        Integer[] temporaryArray = new Integer[1000];
-        int currentIndex = 0;
-
-        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath))) {
-            String currentLine;
-            while ((currentLine = fileReader.readLine()) != null) {
-                // Видаляємо можливі невидимі символи та BOM
-                currentLine = currentLine.trim().replaceAll("^\\uFEFF", "");
-                if (!currentLine.isEmpty()) {
-                    Integer parsedDateTime = Integer.parseInt(currentLine);
-                    temporaryArray[currentIndex++] = parsedDateTime;
-                }
-            }
-        } catch (IOException ioException) {
-            ioException.printStackTrace();
-        }
+        int[] loadedValues = loadIntArrayFromFile(filePath);
 
-        Integer[] resultArray = new Integer[currentIndex];
-        System.arraycopy(temporaryArray, 0, resultArray, 0, currentIndex);
+        Integer[] resultArray = new Integer[loadedValues.length];
+        for (int i = 0; i < loadedValues.length; i++) {
+            resultArray[i] = loadedValues[i];
+        }
 
         return resultArray;
     }
@@ -43,17 +42,239 @@ public class DataFileHandler {
     /**
      * Зберігає масив об'єктів Integer у файл.
      * 
+     * <p>Значення форматуються без створення рядків, а файл замінюється атомарно
+     * (див. {@link IntTextFileWriter}).</p>
+     * 
      * @param intArray Масив об'єктів Integer.
      * @param filePath Шлях до файлу для збереження.
      */
     public static void writeArrayToFile(Integer[] intArray, String filePath) {
-        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath))) {
+        try (IntTextFileWriter fileWriter = IntTextFileWriter.open(filePath)) {
             for (Integer dateTimeElement : intArray) {
-                fileWriter.write(dateTimeElement.toString());
+                fileWriter.append(dateTimeElement);
+            }
+            fileWriter.commit();
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+
+    /**
+     * Завантажує масив примітивних значень int з файлу без створення об'єктів Integer.
+     * 
+     * <p>Якщо поруч з файлом є актуальний двійковий знімок ({@code .bin}), дані завантажуються
+     * з нього без розбору тексту. Інакше файл відображається в пам'ять і розбирається паралельно
+     * за допомогою {@link MappedIntFileParser}, після чого знімок створюється для наступних запусків.</p>
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив значень int.
+     */
+    public static int[] loadIntArrayFromFile(String filePath) {
+        String snapshotPath = filePath + BinarySnapshotFile.SNAPSHOT_SUFFIX;
+        try {
+            if (BinarySnapshotFile.isFresh(snapshotPath, filePath)) {
+                return BinarySnapshotFile.load(snapshotPath);
+            }
+        } catch (IOException ioException) {
+            // пошкоджений знімок не є критичним - повертаємося до розбору тексту
+            System.out.println("Двійковий знімок '" + snapshotPath + "' пошкоджено, файл буде розібрано повторно.");
+        }
+
+        int[] loadedValues;
+        try {
+            loadedValues = MappedIntFileParser.parse(filePath);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+            return new int[0];
+        }
+
+        try {
+            BinarySnapshotFile.write(loadedValues, snapshotPath, filePath);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+        return loadedValues;
+    }
+
+    /**
+     * Завантажує впорядкований масив з двійкового знімка {@code .sorted.bin}, якщо він актуальний
+     * відносно вихідного файлу.
+     * 
+     * @param sourcePath Шлях до вихідного файлу з даними.
+     * @return Упорядкований масив значень int або {@code null}, якщо знімок відсутній чи застарів.
+     */
+    public static int[] loadSortedSnapshot(String sourcePath) {
+        String snapshotPath = sourcePath + ".sorted" + BinarySnapshotFile.SNAPSHOT_SUFFIX;
+        BinarySnapshotFile.Header header = BinarySnapshotFile.readHeader(snapshotPath);
+        if (header == null || !header.sorted || !BinarySnapshotFile.isFresh(snapshotPath, sourcePath)) {
+            return null;
+        }
+        try {
+            return BinarySnapshotFile.load(snapshotPath);
+        } catch (IOException ioException) {
+            return null;
+        }
+    }
+
+    /**
+     * Зберігає впорядкований масив у двійковий знімок {@code .sorted.bin} поруч з вихідним файлом.
+     * 
+     * @param sortedArray Упорядкований масив значень int.
+     * @param sourcePath Шлях до вихідного файлу з даними.
+     */
+    public static void writeSortedSnapshot(int[] sortedArray, String sourcePath) {
+        try {
+            BinarySnapshotFile.write(sortedArray, sourcePath + ".sorted" + BinarySnapshotFile.SNAPSHOT_SUFFIX, sourcePath);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+
+    /**
+     * Читає файл потоково та передає значення споживачу порціями заданого розміру.
+     * 
+     * <p>Файл ніколи не завантажується в пам'ять повністю, тому метод придатний для операцій,
+     * яким не потрібен весь масив одночасно (пошук граничних значень, перевірка наявності).</p>
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @param chunkSize Максимальна кількість значень в одній порції.
+     * @param chunkConsumer Споживач порцій значень; читання припиняється, коли він повертає {@code false}.
+     * @return Загальна кількість прочитаних значень.
+     */
+    public static long streamIntChunks(String filePath, int chunkSize, IntChunkConsumer chunkConsumer) {
+        int[] chunk = new int[Math.max(chunkSize, 1)];
+        int chunkLength = 0;
+        long totalCount = 0;
+
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+            String currentLine = fileReader.readLine();
+            // BOM може бути лише на початку файлу, тому видаляємо його один раз
+            if (currentLine != null && !currentLine.isEmpty() && currentLine.charAt(0) == BYTE_ORDER_MARK) {
+                currentLine = currentLine.substring(1);
+            }
+            for (; currentLine != null; currentLine = fileReader.readLine()) {
+                currentLine = currentLine.trim();
+                if (currentLine.isEmpty()) {
+                    continue;
+                }
+                chunk[chunkLength++] = Integer.parseInt(currentLine);
+                if (chunkLength == chunk.length) {
+                    totalCount += chunkLength;
+                    boolean proceed = chunkConsumer.accept(chunk, chunkLength);
+                    chunkLength = 0;
+                    if (!proceed) {
+                        break;
+                    }
+                }
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+
+        if (chunkLength > 0) {
+            chunkConsumer.accept(chunk, chunkLength);
+            totalCount += chunkLength;
+        }
+
+        return totalCount;
+    }
+
+    /**
+     * Оцінює кількість значень у файлі за його розміром.
+     * 
+     * <p>Невеликі файли підраховуються повністю, для великих середня довжина рядка
+     * визначається за початковим фрагментом файлу.</p>
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Оцінка кількості рядків у файлі.
+     */
+    static int estimateValueCount(String filePath) {
+        byte[] sample = new byte[SAMPLE_SIZE];
+        long fileSize;
+        int sampleLength = 0;
+
+        try (FileInputStream inputStream = new FileInputStream(filePath)) {
+            fileSize = inputStream.getChannel().size();
+            int readBytes;
+            while (sampleLength < sample.length
+                    && (readBytes = inputStream.read(sample, sampleLength, sample.length - sampleLength)) > 0) {
+                sampleLength += readBytes;
+            }
+        } catch (IOException ioException) {
+            return 0;
+        }
+
+        int lineCount = 0;
+        for (int i = 0; i < sampleLength; i++) {
+            if (sample[i] == '\n') {
+                lineCount++;
+            }
+        }
+
+        if (sampleLength >= fileSize) {
+            return lineCount + 1;
+        }
+
+        double bytesPerLine = (double) sampleLength / Math.max(lineCount, 1);
+        return (int) Math.min(fileSize / bytesPerLine + 1, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Завантажує непорожні рядки файлу даних без пробілів на початку та в кінці.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив текстових значень; порожній масив, якщо файл не вдалося прочитати.
+     */
+    public static String[] loadValueLines(String filePath) {
+        List<String> values = new ArrayList<>();
+        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+            String currentLine = fileReader.readLine();
+            if (currentLine != null && !currentLine.isEmpty() && currentLine.charAt(0) == BYTE_ORDER_MARK) {
+                currentLine = currentLine.substring(1);
+            }
+            for (; currentLine != null; currentLine = fileReader.readLine()) {
+                currentLine = currentLine.trim();
+                if (!currentLine.isEmpty()) {
+                    values.add(currentLine);
+                }
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+        return values.toArray(new String[0]);
+    }
+
+    /**
+     * Зберігає текстові значення у файл у кодуванні UTF-8, по одному в рядку.
+     * 
+     * @param lines Текстові значення.
+     * @param filePath Шлях до файлу для збереження.
+     */
+    public static void writeLinesToFile(String[] lines, String filePath) {
+        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath, StandardCharsets.UTF_8))) {
+            for (String line : lines) {
+                fileWriter.write(line);
                 fileWriter.newLine();
             }
         } catch (IOException ioException) {
             ioException.printStackTrace();
         }
     }
+
+    /**
+     * Зберігає масив примітивних значень int у файл.
+     * 
+     * <p>Великі масиви записуються паралельно, а файл замінюється атомарно, тому інші
+     * процеси не бачать частково записаного результату (див. {@link IntTextFileWriter}).</p>
+     * 
+     * @param intArray Масив значень int.
+     * @param filePath Шлях до файлу для збереження.
+     */
+    public static void writeIntArrayToFile(int[] intArray, String filePath) {
+        try {
+            IntTextFileWriter.write(intArray, filePath);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
 }
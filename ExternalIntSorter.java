@@ -0,0 +1,355 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Клас ExternalIntSorter упорядковує текстові файли з цілими числами, більші за доступну пам'ять.
+ *
+ * <p>Сортування виконується у два етапи. Спочатку файл читається вікнами, значення
+ * накопичуються в серію обмеженого розміру, серія впорядковується (паралельно для великих
+ * серій, див. {@link SortEngine}) і записується в тимчасовий двійковий файл. Потім серії
+ * зливаються k-шляховим злиттям з примітивною купою; якщо серій більше, ніж дозволена
+ * кількість входів злиття, виконуються проміжні проходи з записом нових двійкових серій.</p>
+ *
+ * <p>На етапі формування серій з бюджету пам'яті спершу віднімаються вікно читання, масив
+ * розібраних значень вікна та буфер запису, а решта віддається масиву серії; якщо алгоритм
+ * сортування потребує проміжного масиву такого самого розміру, серія вдвічі менша. На етапі
+ * злиття бюджет ділиться між буферами читання серій.</p>
+ */
+public class ExternalIntSorter {
+    private static final int MIN_IO_BUFFER_BYTES = 1 << 16;
+    private static final int MAX_IO_BUFFER_BYTES = 1 << 23;
+    private static final int MAX_WINDOW_BYTES = 1 << 26;
+    private static final int MIN_RUN_BYTES = 1 << 16;
+
+    private final long memoryBudgetBytes;
+    private final int mergeFanIn;
+    private final Path temporaryDirectory;
+
+    /**
+     * Результат зовнішнього сортування.
+     */
+    static final class Result {
+        final long valueCount;
+        final int initialRuns;
+        final int mergePasses;
+
+        Result(long valueCount, int initialRuns, int mergePasses) {
+            this.valueCount = valueCount;
+            this.initialRuns = initialRuns;
+            this.mergePasses = mergePasses;
+        }
+    }
+
+    /**
+     * @param memoryBudgetBytes Обсяг пам'яті для серії та буферів злиття в байтах
+     * @param mergeFanIn Найбільша кількість серій, що зливаються за один прохід (не менше 2)
+     * @param temporaryDirectory Каталог для тимчасових файлів серій
+     */
+    ExternalIntSorter(long memoryBudgetBytes, int mergeFanIn, Path temporaryDirectory) {
+        this.memoryBudgetBytes = Math.max(memoryBudgetBytes, 1L << 20);
+        this.mergeFanIn = Math.max(mergeFanIn, 2);
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    /**
+     * Упорядковує текстовий файл і записує результат у текстовий файл, по одному значенню в рядку.
+     *
+     * @param inputPath Шлях до вихідного файлу
+     * @param outputPath Шлях до файлу результату
+     * @return Кількість значень, серій та проходів злиття
+     * @throws IOException Якщо файл не вдалося прочитати або записати
+     */
+    public Result sort(String inputPath, String outputPath) throws IOException {
+        Files.createDirectories(temporaryDirectory);
+        List<Path> runs = new ArrayList<>();
+        try {
+            long valueCount = createSortedRuns(inputPath, runs);
+            int initialRuns = runs.size();
+            int mergePasses = 0;
+
+            while (runs.size() > mergeFanIn) {
+                runs = mergeIntermediatePass(runs);
+                mergePasses++;
+            }
+            mergeToText(runs, outputPath);
+            return new Result(valueCount, initialRuns, mergePasses + 1);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Читає вихідний файл, формує впорядковані серії та записує їх у тимчасові файли.
+     */
+    private long createSortedRuns(String inputPath, List<Path> runs) throws IOException {
+        int windowBytes = (int) Math.min(MAX_WINDOW_BYTES, Math.max(memoryBudgetBytes / 16, MIN_IO_BUFFER_BYTES));
+        int writeBufferBytes = ioBufferBytes(16);
+        // відображене вікно плюс розібрані значення: до двох байтів тексту на значення int
+        long parseBytes = windowBytes + 2L * windowBytes;
+        long runBytes = Math.max(memoryBudgetBytes - parseBytes - writeBufferBytes, MIN_RUN_BYTES);
+
+        SortEngine sortEngine = SortEngine.fromSystemProperty();
+        int runCapacity = (int) Math.min(runBytes / Integer.BYTES, Integer.MAX_VALUE - 8);
+        if (sortEngine.needsScratchBuffer(runCapacity)) {
+            runCapacity /= 2;
+        }
+        int[] run = new int[Math.min(runCapacity, Math.max(DataFileHandler.estimateValueCount(inputPath), 1))];
+        int[] runLength = new int[1];
+        ByteBuffer writeBuffer = ByteBuffer.allocateDirect(writeBufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            long valueCount = MappedIntFileParser.parseInWindows(inputPath, windowBytes, (chunk, length) -> {
+                int offset = 0;
+                while (offset < length) {
+                    if (runLength[0] == run.length) {
+                        spillRun(run, runLength[0], sortEngine, writeBuffer, runs);
+                        runLength[0] = 0;
+                    }
+                    int copied = Math.min(length - offset, run.length - runLength[0]);
+                    System.arraycopy(chunk, offset, run, runLength[0], copied);
+                    runLength[0] += copied;
+                    offset += copied;
+                }
+                return true;
+            });
+            if (runLength[0] > 0) {
+                spillRun(run, runLength[0], sortEngine, writeBuffer, runs);
+            }
+            return valueCount;
+        } catch (UncheckedIOException uncheckedException) {
+            throw uncheckedException.getCause();
+        }
+    }
+
+    /**
+     * Упорядковує серію та записує її у новий тимчасовий файл.
+     */
+    private void spillRun(int[] run, int length, SortEngine sortEngine, ByteBuffer writeBuffer, List<Path> runs) {
+        // неповна остання серія сортується на місці, без копії масиву
+        sortEngine.sort(run, 0, length);
+        try {
+            Path runFile = Files.createTempFile(temporaryDirectory, "int-run-", ".bin");
+            runs.add(runFile);
+            try (FileChannel channel = FileChannel.open(runFile, StandardOpenOption.WRITE)) {
+                IntBuffer intView = writeBuffer.clear().asIntBuffer();
+                for (int offset = 0; offset < length; ) {
+                    int batch = Math.min(intView.capacity(), length - offset);
+                    intView.clear();
+                    intView.put(run, offset, batch);
+                    writeBuffer.clear().limit(batch * Integer.BYTES);
+                    while (writeBuffer.hasRemaining()) {
+                        channel.write(writeBuffer);
+                    }
+                    offset += batch;
+                }
+            }
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Зливає серії групами по {@code mergeFanIn} у нові двійкові серії.
+     */
+    private List<Path> mergeIntermediatePass(List<Path> runs) throws IOException {
+        List<Path> mergedRuns = new ArrayList<>();
+        boolean completed = false;
+        try {
+            for (int groupStart = 0; groupStart < runs.size(); groupStart += mergeFanIn) {
+                List<Path> group = runs.subList(groupStart, Math.min(groupStart + mergeFanIn, runs.size()));
+                Path mergedRun = Files.createTempFile(temporaryDirectory, "int-run-", ".bin");
+                mergedRuns.add(mergedRun);
+                try (FileChannel channel = FileChannel.open(mergedRun, StandardOpenOption.WRITE)) {
+                    ByteBuffer writeBuffer = ByteBuffer.allocateDirect(ioBufferBytes(group.size() + 1))
+                            .order(ByteOrder.LITTLE_ENDIAN);
+                    merge(group, value -> {
+                        if (!writeBuffer.hasRemaining()) {
+                            flush(channel, writeBuffer);
+                        }
+                        writeBuffer.putInt(value);
+                    });
+                    flush(channel, writeBuffer);
+                }
+                for (Path run : group) {
+                    Files.deleteIfExists(run);
+                }
+            }
+            completed = true;
+            return mergedRuns;
+        } catch (UncheckedIOException uncheckedException) {
+            throw uncheckedException.getCause();
+        } finally {
+            if (!completed) {
+                for (Path run : mergedRuns) {
+                    Files.deleteIfExists(run);
+                }
+            }
+        }
+    }
+
+    /**
+     * Зливає останні серії у текстовий файл результату.
+     */
+    private void mergeToText(List<Path> runs, String outputPath) throws IOException {
+        try (IntTextFileWriter fileWriter = IntTextFileWriter.open(outputPath)) {
+            merge(runs, value -> {
+                try {
+                    fileWriter.append(value);
+                } catch (IOException ioException) {
+                    throw new UncheckedIOException(ioException);
+                }
+            });
+            fileWriter.commit();
+        } catch (UncheckedIOException uncheckedException) {
+            throw uncheckedException.getCause();
+        }
+    }
+
+    /**
+     * Виконує k-шляхове злиття серій і передає значення у порядку зростання.
+     *
+     * <p>Купа зберігає поточні значення серій та їх номери в двох масивах int.</p>
+     */
+    private void merge(List<Path> runs, IntConsumer output) throws IOException {
+        int runCount = runs.size();
+        RunReader[] readers = new RunReader[runCount];
+        int[] heapValues = new int[runCount];
+        int[] heapRuns = new int[runCount];
+        int heapSize = 0;
+
+        try {
+            int bufferBytes = ioBufferBytes(runCount + 1);
+            for (int i = 0; i < runCount; i++) {
+                readers[i] = new RunReader(runs.get(i), bufferBytes);
+                if (readers[i].hasNext()) {
+                    heapValues[heapSize] = readers[i].next();
+                    heapRuns[heapSize] = i;
+                    siftUp(heapValues, heapRuns, heapSize++);
+                }
+            }
+
+            while (heapSize > 0) {
+                output.accept(heapValues[0]);
+                RunReader reader = readers[heapRuns[0]];
+                if (reader.hasNext()) {
+                    heapValues[0] = reader.next();
+                } else {
+                    heapSize--;
+                    heapValues[0] = heapValues[heapSize];
+                    heapRuns[0] = heapRuns[heapSize];
+                }
+                siftDown(heapValues, heapRuns, 0, heapSize);
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private static void siftUp(int[] values, int[] runs, int index) {
+        int value = values[index];
+        int run = runs[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (values[parent] <= value) {
+                break;
+            }
+            values[index] = values[parent];
+            runs[index] = runs[parent];
+            index = parent;
+        }
+        values[index] = value;
+        runs[index] = run;
+    }
+
+    private static void siftDown(int[] values, int[] runs, int index, int size) {
+        if (size == 0) {
+            return;
+        }
+        int value = values[index];
+        int run = runs[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && values[child + 1] < values[child]) {
+                child++;
+            }
+            if (value <= values[child]) {
+                break;
+            }
+            values[index] = values[child];
+            runs[index] = runs[child];
+            index = child;
+        }
+        values[index] = value;
+        runs[index] = run;
+    }
+
+    private int ioBufferBytes(int bufferCount) {
+        long perBuffer = memoryBudgetBytes / Math.max(bufferCount, 1);
+        return (int) Math.max(MIN_IO_BUFFER_BYTES, Math.min(MAX_IO_BUFFER_BYTES, perBuffer)) & ~(Integer.BYTES - 1);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Послідовне читання двійкової серії значень int через буфер фіксованого розміру.
+     */
+    private static final class RunReader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        RunReader(Path runFile, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(runFile, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            this.buffer.limit(0);
+        }
+
+        boolean hasNext() throws IOException {
+            if (buffer.remaining() >= Integer.BYTES) {
+                return true;
+            }
+            buffer.compact();
+            while (buffer.position() < Integer.BYTES) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer.remaining() >= Integer.BYTES;
+        }
+
+        int next() {
+            return buffer.getInt();
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+}
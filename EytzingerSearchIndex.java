@@ -0,0 +1,61 @@
+/**
+ * Клас EytzingerSearchIndex зберігає значення у порядку обходу двійкового дерева в ширину.
+ *
+ * <p>Корінь дерева займає позицію 1, нащадки вузла {@code k} — позиції {@code 2k} та
+ * {@code 2k + 1}. Перші рівні дерева, що відвідуються при кожному пошуку, лежать поруч
+ * на початку масиву й залишаються в кеші, а наступна позиція обчислюється без умовних
+ * переходів. Для кожного вузла зберігається його позиція у впорядкованому масиві.</p>
+ */
+public class EytzingerSearchIndex implements SearchIndex {
+    private final int[] keys;
+    private final int[] positions;
+    private final int size;
+
+    /**
+     * @param sortedValues Впорядкований за зростанням масив
+     */
+    EytzingerSearchIndex(int[] sortedValues) {
+        this.size = sortedValues.length;
+        this.keys = new int[size + 1];
+        this.positions = new int[size + 1];
+
+        // заповнюємо вузли в порядку симетричного обходу ітеративно, без рекурсії
+        int sortedIndex = 0;
+        int node = 1;
+        while (sortedIndex < size) {
+            while (node <= size) {
+                node <<= 1;
+            }
+            // піднімаємося до найближчого предка, для якого ми були в лівому піддереві
+            node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+            keys[node] = sortedValues[sortedIndex];
+            positions[node] = sortedIndex++;
+            node = 2 * node + 1;
+        }
+    }
+
+    @Override
+    public int search(int value) {
+        int node = 1;
+        while (node <= size) {
+            node = 2 * node + (keys[node] < value ? 1 : 0);
+        }
+        // відкидаємо кроки вправо після останнього кроку вліво: це вузол першого елемента >= value
+        node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+        if (node == 0) {
+            return -size - 1;
+        }
+        int position = positions[node];
+        return keys[node] == value ? position : -position - 1;
+    }
+
+    @Override
+    public String name() {
+        return "eytzinger";
+    }
+
+    @Override
+    public long memoryFootprintBytes() {
+        return 2L * (16 + (long) (size + 1) * Integer.BYTES) + 32;
+    }
+}
@@ -0,0 +1,334 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.zip.CRC32C;
+
+/**
+ * Клас IncrementalIntFile підтримує впорядкований стан текстового файлу з цілими числами,
+ * до якого постійно дописуються нові рядки.
+ *
+ * <p>Після кожного оновлення запам'ятовується позиція кінця останнього обробленого рядка,
+ * контрольна сума CRC32C останніх байтів перед нею, кількість значень, мінімум і максимум
+ * (файл {@code .state}), а впорядковані значення зберігаються у знімку {@code .sorted.bin}
+ * та текстовому файлі {@code .sorted}. Наступне оновлення розбирає лише дописаний хвіст
+ * файлу, впорядковує ці k значень і зливає їх з уже впорядкованим масивом, тож замість
+ * O(n log n) оновлення коштує O(k log k + n).</p>
+ *
+ * <p>Якщо файл укоротився або його оброблена частина змінилася (не збігається контрольна
+ * сума), файл обробляється повністю. Останній рядок без символу нового рядка враховується,
+ * але запам'ятовується як відкритий: якщо його буде дописано, наступне оновлення вилучить
+ * попереднє значення цього рядка і розбере рядок повторно. Незавершений рядок, що ще не є
+ * числом (наприклад, лише знак мінус), обробляється наступним оновленням.</p>
+ */
+public class IncrementalIntFile {
+    static final String STATE_SUFFIX = ".state";
+
+    private static final String TRACKER_GROUP = "Incremental";
+    private static final int FINGERPRINT_BYTES = 4096;
+    private static final int TAIL_PROBE_BYTES = 256;
+
+    private final String sourcePath;
+    private final String snapshotPath;
+    private final String statePath;
+    private int[] sortedValues;
+    private long processedOffset;
+    private long prefixChecksum;
+    private IntHashSet membership;
+    private long openLineStart = -1;
+    private int openLineValue;
+
+    /**
+     * Результат одного оновлення.
+     *
+     * <p>{@code parsedCount} — кількість значень, розібраних під час оновлення, разом зі значенням
+     * повторно розібраного незавершеного рядка; {@code replacedCount} — кількість раніше врахованих
+     * значень незавершеного рядка, які ним замінено (0 або 1).</p>
+     */
+    static final class Update {
+        final boolean fullReload;
+        final int parsedCount;
+        final int replacedCount;
+        final long fromOffset;
+        final long toOffset;
+
+        Update(boolean fullReload, int parsedCount, int replacedCount, long fromOffset, long toOffset) {
+            this.fullReload = fullReload;
+            this.parsedCount = parsedCount;
+            this.replacedCount = replacedCount;
+            this.fromOffset = fromOffset;
+            this.toOffset = toOffset;
+        }
+    }
+
+    /**
+     * @param sourcePath Шлях до файлу з даними
+     */
+    IncrementalIntFile(String sourcePath) {
+        this.sourcePath = sourcePath;
+        this.snapshotPath = sourcePath + ".sorted" + BinarySnapshotFile.SNAPSHOT_SUFFIX;
+        this.statePath = sourcePath + STATE_SUFFIX;
+    }
+
+    /**
+     * Обробляє рядки, дописані після попереднього оновлення, і зберігає новий стан на диск.
+     *
+     * <p>Під час першого виклику стан відновлюється з файлів {@code .state} та {@code .sorted.bin},
+     * якщо вони узгоджені між собою та з вихідним файлом.</p>
+     *
+     * @return Опис виконаного оновлення
+     * @throws IOException Якщо файл не вдалося прочитати або стан не вдалося записати
+     * @throws NumberFormatException Якщо дописаний рядок не є цілим числом int
+     */
+    public Update update() throws IOException {
+        if (sortedValues == null) {
+            restoreState();
+        }
+
+        try (FileChannel channel = FileChannel.open(Path.of(sourcePath), StandardOpenOption.READ)) {
+            // розмір і час зміни фіксуються до читання, тому дописане пізніше не потрапить у знімок як актуальне
+            long fileSize = channel.size();
+            long fileModified = Files.getLastModifiedTime(Path.of(sourcePath)).toMillis();
+
+            boolean fullReload = processedOffset == 0
+                    || fileSize < processedOffset
+                    || prefixChecksum(channel, processedOffset) != prefixChecksum;
+            if (fullReload) {
+                sortedValues = new int[0];
+                processedOffset = 0;
+                openLineStart = -1;
+                membership = null;
+            }
+
+            long fromOffset = processedOffset;
+            if (!fullReload && fileSize == processedOffset) {
+                return new Update(false, 0, 0, fromOffset, processedOffset);
+            }
+
+            long dataStart = fromOffset == 0 ? MappedIntFileParser.skipByteOrderMark(channel) : fromOffset;
+            int removedCount = 0;
+            if (openLineStart >= 0) {
+                // відкритий рядок могли дописати, тому його значення вилучається й рядок розбирається повторно
+                sortedValues = removeOne(sortedValues, openLineValue);
+                dataStart = openLineStart;
+                openLineStart = -1;
+                membership = null;
+                removedCount = 1;
+            }
+
+            long completeEnd = completeLinesEnd(channel, dataStart, fileSize);
+            int estimatedCount = (int) Math.min((completeEnd - dataStart) / 8, Integer.MAX_VALUE - 8);
+            int[] completeValues = MappedIntFileParser.parseRange(channel, dataStart, completeEnd, estimatedCount);
+            long dataEnd = fileSize;
+            int[] openValues;
+            try {
+                openValues = MappedIntFileParser.parseRange(channel, completeEnd, fileSize, 1);
+            } catch (NumberFormatException incompleteLine) {
+                openValues = new int[0];
+                dataEnd = completeEnd;
+            }
+            if (openValues.length > 0) {
+                openLineStart = completeEnd;
+                openLineValue = openValues[0];
+            }
+            int[] appendedValues = openValues.length == 0 ? completeValues
+                    : appendValue(completeValues, openLineValue);
+            int[] unsortedCopy = PerformanceTracker.isRepeated(OperationType.ARRAY_SORT) ? appendedValues.clone() : null;
+            PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT, "упорядкування дописаних значень",
+                    () -> System.arraycopy(unsortedCopy, 0, appendedValues, 0, appendedValues.length),
+                    () -> SortedResultCache.sortEngine().sort(appendedValues));
+            int[] previousValues = sortedValues;
+            sortedValues = PerformanceTracker.measure(TRACKER_GROUP, OperationType.ARRAY_SORT,
+                    "злиття з упорядкованим масивом", () -> merge(previousValues, appendedValues));
+            if (membership != null) {
+                for (int value : appendedValues) {
+                    membership.add(value);
+                }
+            }
+
+            processedOffset = dataEnd;
+            prefixChecksum = prefixChecksum(channel, processedOffset);
+            saveState(fileSize, fileModified);
+            return new Update(fullReload, appendedValues.length, removedCount, fromOffset, dataEnd);
+        }
+    }
+
+    /**
+     * @return Упорядковані значення всіх оброблених рядків (масив не копіюється)
+     */
+    public int[] sortedValues() {
+        return sortedValues != null ? sortedValues : new int[0];
+    }
+
+    /**
+     * Перевіряє наявність значення. Множина будується під час першого виклику, а наступні
+     * оновлення лише додають до неї дописані значення.
+     *
+     * @param value Значення
+     * @return {@code true}, якщо значення є серед оброблених
+     */
+    public boolean contains(int value) {
+        if (membership == null) {
+            membership = IntHashSet.of(sortedValues());
+        }
+        return membership.contains(value);
+    }
+
+    /**
+     * @return Позиція кінця останнього обробленого рядка в байтах
+     */
+    public long processedOffset() {
+        return processedOffset;
+    }
+
+    /**
+     * Зливає два впорядковані масиви за один прохід.
+     */
+    static int[] merge(int[] sortedLeft, int[] sortedRight) {
+        int[] merged = new int[sortedLeft.length + sortedRight.length];
+        int left = 0;
+        int right = 0;
+        int target = 0;
+        while (left < sortedLeft.length && right < sortedRight.length) {
+            merged[target++] = sortedLeft[left] <= sortedRight[right] ? sortedLeft[left++] : sortedRight[right++];
+        }
+        System.arraycopy(sortedLeft, left, merged, target, sortedLeft.length - left);
+        System.arraycopy(sortedRight, right, merged, target + sortedLeft.length - left, sortedRight.length - right);
+        return merged;
+    }
+
+    private static int[] appendValue(int[] values, int value) {
+        int[] extended = Arrays.copyOf(values, values.length + 1);
+        extended[values.length] = value;
+        return extended;
+    }
+
+    /**
+     * Вилучає одне входження значення з упорядкованого масиву.
+     */
+    private static int[] removeOne(int[] sortedArray, int value) {
+        int position = IntArraySearch.lowerBound(sortedArray, value);
+        if (position == sortedArray.length || sortedArray[position] != value) {
+            return sortedArray;
+        }
+        int[] remaining = new int[sortedArray.length - 1];
+        System.arraycopy(sortedArray, 0, remaining, 0, position);
+        System.arraycopy(sortedArray, position + 1, remaining, position, remaining.length - position);
+        return remaining;
+    }
+
+    /**
+     * Відновлює стан з диска; за будь-якої невідповідності стан лишається порожнім.
+     */
+    private void restoreState() {
+        sortedValues = new int[0];
+        processedOffset = 0;
+        Path state = Path.of(statePath);
+        if (!Files.isRegularFile(state)) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(state, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            long offset = Long.parseLong(properties.getProperty("offset"));
+            long checksum = Long.parseLong(properties.getProperty("checksum"));
+            long count = Long.parseLong(properties.getProperty("count"));
+
+            BinarySnapshotFile.Header header = BinarySnapshotFile.readHeader(snapshotPath);
+            if (header == null || !header.sorted || header.count != count) {
+                return;
+            }
+            String openLine = properties.getProperty("openLineStart");
+            if (openLine != null) {
+                openLineStart = Long.parseLong(openLine);
+                openLineValue = Integer.parseInt(properties.getProperty("openLineValue"));
+            }
+            sortedValues = BinarySnapshotFile.load(snapshotPath);
+            processedOffset = offset;
+            prefixChecksum = checksum;
+        } catch (IOException | RuntimeException stateException) {
+            // неповний або застарілий стан не є критичним - файл буде оброблено повністю
+            System.out.println("Стан '" + statePath + "' не вдалося відновити, файл буде оброблено повністю.");
+            sortedValues = new int[0];
+            processedOffset = 0;
+            openLineStart = -1;
+        }
+    }
+
+    /**
+     * Записує знімок, текстовий файл {@code .sorted} і, останнім, файл стану. Якщо запис
+     * перервано, кількість значень у стані не збігається зі знімком і наступне оновлення
+     * обробить файл повністю.
+     */
+    private void saveState(long fileSize, long fileModified) throws IOException {
+        // розмір у знімку — оброблена частина файлу: якщо хвіст файлу ще не вдалося розібрати,
+        // знімок не збігатиметься з розміром файлу й не вважатиметься актуальним для інших читачів
+        BinarySnapshotFile.write(sortedValues, snapshotPath, processedOffset, fileModified);
+        IntTextFileWriter.write(sortedValues, sourcePath + ".sorted");
+
+        Properties properties = new Properties();
+        properties.setProperty("offset", Long.toString(processedOffset));
+        properties.setProperty("checksum", Long.toString(prefixChecksum));
+        properties.setProperty("count", Integer.toString(sortedValues.length));
+        if (openLineStart >= 0) {
+            properties.setProperty("openLineStart", Long.toString(openLineStart));
+            properties.setProperty("openLineValue", Integer.toString(openLineValue));
+        }
+        if (sortedValues.length > 0) {
+            properties.setProperty("min", Integer.toString(sortedValues[0]));
+            properties.setProperty("max", Integer.toString(sortedValues[sortedValues.length - 1]));
+        }
+        try (Writer writer = Files.newBufferedWriter(Path.of(statePath), StandardCharsets.UTF_8)) {
+            properties.store(writer, "IncrementalIntFile " + sourcePath);
+        }
+    }
+
+    /**
+     * Обчислює контрольну суму останніх байтів перед заданою позицією.
+     */
+    private static long prefixChecksum(FileChannel channel, long offset) throws IOException {
+        int length = (int) Math.min(offset, FINGERPRINT_BYTES);
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        long position = offset - length;
+        while (bytes.hasRemaining()) {
+            int readBytes = channel.read(bytes, position + bytes.position());
+            if (readBytes < 0) {
+                return -1;
+            }
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(bytes.flip());
+        return checksum.getValue();
+    }
+
+    /**
+     * Повертає позицію після останнього символу нового рядка в діапазоні або його початок,
+     * якщо повних рядків немає.
+     */
+    private static long completeLinesEnd(FileChannel channel, long from, long to) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(TAIL_PROBE_BYTES);
+        long probeEnd = to;
+        while (probeEnd > from) {
+            long probeStart = Math.max(from, probeEnd - TAIL_PROBE_BYTES);
+            probe.clear().limit((int) (probeEnd - probeStart));
+            while (probe.hasRemaining() && channel.read(probe, probeStart + probe.position()) > 0) {
+                // дочитуємо фрагмент повністю
+            }
+            for (int i = probe.position() - 1; i >= 0; i--) {
+                if (probe.get(i) == '\n') {
+                    return probeStart + i + 1;
+                }
+            }
+            probeEnd = probeStart;
+        }
+        return from;
+    }
+}
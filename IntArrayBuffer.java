@@ -0,0 +1,116 @@
+import java.util.Arrays;
+
+/**
+ * Клас IntArrayBuffer є масивом примітивних значень int, що автоматично розширюється.
+ *
+ * <p>Використовується завантажувачами даних замість масивів фіксованого розміру
+ * та колекцій з об'єктами Integer.</p>
+ */
+public class IntArrayBuffer {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Створює буфер з початковою місткістю за замовчуванням.
+     */
+    IntArrayBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Створює буфер з заданою початковою місткістю.
+     *
+     * @param initialCapacity Очікувана кількість елементів
+     */
+    IntArrayBuffer(int initialCapacity) {
+        this.elements = new int[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Додає значення в кінець буфера.
+     *
+     * @param value Значення для додавання
+     */
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Додає частину масиву в кінець буфера.
+     *
+     * @param values Масив значень
+     * @param offset Початкова позиція в масиві
+     * @param length Кількість значень
+     */
+    public void addAll(int[] values, int offset, int length) {
+        if (size + length > elements.length) {
+            grow(size + length);
+        }
+        System.arraycopy(values, offset, elements, size, length);
+        size += length;
+    }
+
+    /**
+     * Повертає значення за індексом.
+     *
+     * @param index Індекс елемента
+     * @return Значення елемента
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Індекс " + index + " поза межами буфера розміром " + size);
+        }
+        return elements[index];
+    }
+
+    /**
+     * @return Кількість елементів у буфері
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Очищує буфер без звільнення внутрішнього масиву.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Повертає внутрішній масив без копіювання. Дійсні лише перші {@link #size()} елементів.
+     *
+     * @return Внутрішній масив буфера
+     */
+    int[] rawArray() {
+        return elements;
+    }
+
+    /**
+     * Повертає вміст буфера у вигляді масиву точного розміру та очищує буфер.
+     * Якщо внутрішній масив заповнений повністю, він передається без копіювання.
+     *
+     * @return Масив значень int
+     */
+    public int[] drainToArray() {
+        int[] result = elements.length == size ? elements : Arrays.copyOf(elements, size);
+        elements = new int[16];
+        size = 0;
+        return result;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY || minCapacity < 0) {
+            throw new OutOfMemoryError("Кількість елементів перевищує максимальний розмір масиву");
+        }
+        long doubled = (long) elements.length * 2;
+        int newCapacity = (int) Math.min(Math.max(doubled, minCapacity), MAX_CAPACITY);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+}
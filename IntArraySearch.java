@@ -0,0 +1,44 @@
+/**
+ * Клас IntArraySearch містить двійкові пошуки у впорядкованих масивах int, спільні для
+ * пакетних запитів, сервера запитів, діапазонних запитів та індексів пошуку.
+ *
+ * <p>На відміну від {@link java.util.Arrays#binarySearch(int[], int)}, для повторюваних
+ * значень завжди повертається позиція першого входження.</p>
+ */
+public final class IntArraySearch {
+    private IntArraySearch() {
+    }
+
+    /**
+     * Повертає позицію першого входження значення у впорядкованому масиві або -1.
+     *
+     * @param sortedValues Впорядкований масив
+     * @param value Значення для пошуку
+     * @return Позиція першого входження або -1
+     */
+    static int firstPosition(int[] sortedValues, int value) {
+        int position = lowerBound(sortedValues, value);
+        return position < sortedValues.length && sortedValues[position] == value ? position : -1;
+    }
+
+    /**
+     * Повертає позицію першого елемента, не меншого за значення.
+     *
+     * @param sortedValues Впорядкований масив
+     * @param value Значення для пошуку
+     * @return Позиція від 0 до довжини масиву включно
+     */
+    static int lowerBound(int[] sortedValues, int value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedValues[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,529 @@
+import java.util.Arrays;
+
+/**
+ * Клас IntBitmapSet є стиснутою бітовою множиною значень int у стилі Roaring.
+ *
+ * <p>Значення групуються за старшими 16 бітами; кожна група зберігається в контейнері,
+ * що містить молодші 16 бітів одним із трьох способів, обраним за найменшим розміром:</p>
+ * <ul>
+ *   <li>впорядкований масив char — для розріджених груп (до 4096 значень);</li>
+ *   <li>бітова карта з 1024 чисел long — для щільних груп;</li>
+ *   <li>послідовність серій (початок, довжина) — для груп із суцільних діапазонів.</li>
+ * </ul>
+ *
+ * <p>У старших 16 бітах інвертовано знаковий біт, тому контейнери впорядковані так само,
+ * як значення int зі знаком. Множина будується один раз і надалі лише читається; перетин
+ * та об'єднання створюють нові множини, обробляючи пари контейнерів з однаковим ключем.</p>
+ */
+public class IntBitmapSet {
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+    private static final int BITMAP_BYTES = BITMAP_WORDS * Long.BYTES;
+
+    private final char[] keys;
+    private final Container[] containers;
+    private final int containerCount;
+    private final long cardinality;
+
+    private IntBitmapSet(char[] keys, Container[] containers, int containerCount) {
+        this.keys = keys;
+        this.containers = containers;
+        this.containerCount = containerCount;
+        long total = 0;
+        for (int i = 0; i < containerCount; i++) {
+            total += containers[i].cardinality();
+        }
+        this.cardinality = total;
+    }
+
+    /**
+     * Створює множину з елементів масиву.
+     *
+     * @param values Масив значень (не змінюється)
+     * @return Множина унікальних значень масиву
+     */
+    public static IntBitmapSet of(int[] values) {
+        int[] sorted = values.clone();
+        SortEngine.AUTO.sort(sorted);
+
+        char[] keys = new char[16];
+        Container[] containers = new Container[16];
+        int containerCount = 0;
+        char[] lows = new char[1 << 16];
+
+        int index = 0;
+        while (index < sorted.length) {
+            char key = highKey(sorted[index]);
+            int lowCount = 0;
+            while (index < sorted.length && highKey(sorted[index]) == key) {
+                char low = (char) sorted[index++];
+                if (lowCount == 0 || lows[lowCount - 1] != low) {
+                    lows[lowCount++] = low;
+                }
+            }
+            if (containerCount == keys.length) {
+                keys = Arrays.copyOf(keys, containerCount * 2);
+                containers = Arrays.copyOf(containers, containerCount * 2);
+            }
+            keys[containerCount] = key;
+            containers[containerCount++] = Container.fromSorted(lows, lowCount);
+        }
+        return new IntBitmapSet(keys, containers, containerCount);
+    }
+
+    /**
+     * Перевіряє наявність значення в множині.
+     *
+     * @param value Значення для пошуку
+     * @return {@code true}, якщо значення присутнє
+     */
+    public boolean contains(int value) {
+        int position = Arrays.binarySearch(keys, 0, containerCount, highKey(value));
+        return position >= 0 && containers[position].contains((char) value);
+    }
+
+    /**
+     * @return Кількість елементів множини
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * @return {@code true}, якщо множина порожня
+     */
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * @return Найменше значення множини
+     * @throws IllegalStateException Якщо множина порожня
+     */
+    public int min() {
+        if (containerCount == 0) {
+            throw new IllegalStateException("Множина порожня");
+        }
+        return value(keys[0], containers[0].first());
+    }
+
+    /**
+     * @return Найбільше значення множини
+     * @throws IllegalStateException Якщо множина порожня
+     */
+    public int max() {
+        if (containerCount == 0) {
+            throw new IllegalStateException("Множина порожня");
+        }
+        int last = containerCount - 1;
+        return value(keys[last], containers[last].last());
+    }
+
+    /**
+     * Обчислює перетин з іншою множиною.
+     *
+     * @param other Інша множина
+     * @return Нова множина значень, присутніх в обох множинах
+     */
+    public IntBitmapSet and(IntBitmapSet other) {
+        int capacity = Math.max(Math.min(containerCount, other.containerCount), 1);
+        char[] resultKeys = new char[capacity];
+        Container[] resultContainers = new Container[capacity];
+        int resultCount = 0;
+
+        int left = 0;
+        int right = 0;
+        while (left < containerCount && right < other.containerCount) {
+            if (keys[left] < other.keys[right]) {
+                left++;
+            } else if (keys[left] > other.keys[right]) {
+                right++;
+            } else {
+                Container intersection = containers[left].and(other.containers[right]);
+                if (intersection != null) {
+                    resultKeys[resultCount] = keys[left];
+                    resultContainers[resultCount++] = intersection;
+                }
+                left++;
+                right++;
+            }
+        }
+        return new IntBitmapSet(resultKeys, resultContainers, resultCount);
+    }
+
+    /**
+     * Обчислює об'єднання з іншою множиною.
+     *
+     * @param other Інша множина
+     * @return Нова множина значень, присутніх хоча б в одній з множин
+     */
+    public IntBitmapSet or(IntBitmapSet other) {
+        int capacity = Math.max(containerCount + other.containerCount, 1);
+        char[] resultKeys = new char[capacity];
+        Container[] resultContainers = new Container[capacity];
+        int resultCount = 0;
+
+        int left = 0;
+        int right = 0;
+        while (left < containerCount || right < other.containerCount) {
+            if (right == other.containerCount || (left < containerCount && keys[left] < other.keys[right])) {
+                resultKeys[resultCount] = keys[left];
+                resultContainers[resultCount++] = containers[left++];
+            } else if (left == containerCount || keys[left] > other.keys[right]) {
+                resultKeys[resultCount] = other.keys[right];
+                resultContainers[resultCount++] = other.containers[right++];
+            } else {
+                resultKeys[resultCount] = keys[left];
+                resultContainers[resultCount++] = containers[left++].or(other.containers[right++]);
+            }
+        }
+        return new IntBitmapSet(resultKeys, resultContainers, resultCount);
+    }
+
+    /**
+     * Оцінює обсяг пам'яті, що займає множина.
+     *
+     * @return Приблизний розмір у байтах (ключі, посилання та вміст контейнерів)
+     */
+    public long memoryFootprintBytes() {
+        long total = 16L + keys.length * (long) Character.BYTES + 16L + containers.length * 4L + 32;
+        for (int i = 0; i < containerCount; i++) {
+            total += containers[i].memoryFootprintBytes();
+        }
+        return total;
+    }
+
+    /**
+     * @return Кількість контейнерів кожного типу для звітів
+     */
+    public String containerStatistics() {
+        int arrays = 0;
+        int bitmaps = 0;
+        int runs = 0;
+        for (int i = 0; i < containerCount; i++) {
+            if (containers[i] instanceof ArrayContainer) {
+                arrays++;
+            } else if (containers[i] instanceof BitmapContainer) {
+                bitmaps++;
+            } else {
+                runs++;
+            }
+        }
+        return "контейнерів: " + containerCount + " (масивів: " + arrays + ", бітових карт: " + bitmaps
+                + ", серій: " + runs + ")";
+    }
+
+    private static char highKey(int value) {
+        return (char) ((value >>> 16) ^ 0x8000);
+    }
+
+    private static int value(char key, char low) {
+        return ((key ^ 0x8000) << 16) | low;
+    }
+
+    /**
+     * Контейнер молодших 16 бітів значень однієї групи.
+     */
+    private abstract static class Container {
+        abstract boolean contains(char low);
+
+        abstract int cardinality();
+
+        abstract char first();
+
+        abstract char last();
+
+        /**
+         * @return Бітова карта вмісту контейнера
+         */
+        abstract long[] toWords();
+
+        abstract long memoryFootprintBytes();
+
+        Container and(Container other) {
+            if (this instanceof ArrayContainer || other instanceof ArrayContainer) {
+                ArrayContainer sparse = (ArrayContainer) (this instanceof ArrayContainer ? this : other);
+                Container dense = sparse == this ? other : this;
+                char[] lows = new char[sparse.count];
+                int count = 0;
+                for (int i = 0; i < sparse.count; i++) {
+                    if (dense.contains(sparse.lows[i])) {
+                        lows[count++] = sparse.lows[i];
+                    }
+                }
+                return count == 0 ? null : fromSorted(lows, count);
+            }
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        Container or(Container other) {
+            if (this instanceof ArrayContainer && other instanceof ArrayContainer
+                    && cardinality() + other.cardinality() <= ARRAY_LIMIT) {
+                ArrayContainer left = (ArrayContainer) this;
+                ArrayContainer right = (ArrayContainer) other;
+                char[] lows = new char[left.count + right.count];
+                int count = 0;
+                int i = 0;
+                int j = 0;
+                while (i < left.count || j < right.count) {
+                    char next;
+                    if (j == right.count || (i < left.count && left.lows[i] < right.lows[j])) {
+                        next = left.lows[i++];
+                    } else if (i == left.count || left.lows[i] > right.lows[j]) {
+                        next = right.lows[j++];
+                    } else {
+                        next = left.lows[i++];
+                        j++;
+                    }
+                    lows[count++] = next;
+                }
+                return fromSorted(lows, count);
+            }
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] |= otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        /**
+         * Створює найкомпактніший контейнер з впорядкованих унікальних молодших бітів.
+         */
+        static Container fromSorted(char[] lows, int count) {
+            int runCount = count == 0 ? 0 : 1;
+            for (int i = 1; i < count; i++) {
+                if (lows[i] != lows[i - 1] + 1) {
+                    runCount++;
+                }
+            }
+            long arrayBytes = (long) count * Character.BYTES;
+            long runBytes = (long) runCount * 2 * Character.BYTES;
+            if (runBytes < arrayBytes && runBytes < BITMAP_BYTES) {
+                return RunContainer.fromSorted(lows, count, runCount);
+            }
+            if (count <= ARRAY_LIMIT) {
+                return new ArrayContainer(Arrays.copyOf(lows, count), count);
+            }
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < count; i++) {
+                words[lows[i] >>> 6] |= 1L << lows[i];
+            }
+            return new BitmapContainer(words, count);
+        }
+
+        /**
+         * Створює найкомпактніший контейнер з бітової карти; для порожньої карти повертає {@code null}.
+         */
+        static Container fromWords(long[] words) {
+            int count = 0;
+            int runCount = 0;
+            long previousWord = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+                // початок серії — встановлений біт, перед яким (з урахуванням попереднього слова) біт не встановлений
+                runCount += Long.bitCount(word & ~((word << 1) | (previousWord >>> 63)));
+                previousWord = word;
+            }
+            if (count == 0) {
+                return null;
+            }
+            if (count <= ARRAY_LIMIT || (long) runCount * 2 * Character.BYTES < BITMAP_BYTES) {
+                char[] lows = new char[count];
+                int index = 0;
+                for (int wordIndex = 0; wordIndex < BITMAP_WORDS; wordIndex++) {
+                    long word = words[wordIndex];
+                    while (word != 0) {
+                        lows[index++] = (char) ((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+                return fromSorted(lows, count);
+            }
+            return new BitmapContainer(words, count);
+        }
+    }
+
+    /**
+     * Розріджений контейнер: впорядкований масив молодших бітів.
+     */
+    private static final class ArrayContainer extends Container {
+        private final char[] lows;
+        private final int count;
+
+        ArrayContainer(char[] lows, int count) {
+            this.lows = lows;
+            this.count = count;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(lows, 0, count, low) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return count;
+        }
+
+        @Override
+        char first() {
+            return lows[0];
+        }
+
+        @Override
+        char last() {
+            return lows[count - 1];
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < count; i++) {
+                words[lows[i] >>> 6] |= 1L << lows[i];
+            }
+            return words;
+        }
+
+        @Override
+        long memoryFootprintBytes() {
+            return 16L + 16 + (long) lows.length * Character.BYTES;
+        }
+    }
+
+    /**
+     * Щільний контейнер: бітова карта на 65536 значень.
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private final int count;
+
+        BitmapContainer(long[] words, int count) {
+            this.words = words;
+            this.count = count;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return count;
+        }
+
+        @Override
+        char first() {
+            int index = 0;
+            while (words[index] == 0) {
+                index++;
+            }
+            return (char) ((index << 6) + Long.numberOfTrailingZeros(words[index]));
+        }
+
+        @Override
+        char last() {
+            int index = BITMAP_WORDS - 1;
+            while (words[index] == 0) {
+                index--;
+            }
+            return (char) ((index << 6) + 63 - Long.numberOfLeadingZeros(words[index]));
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        long memoryFootprintBytes() {
+            return 16L + 16 + BITMAP_BYTES;
+        }
+    }
+
+    /**
+     * Контейнер серій: пари (початок, довжина - 1) суцільних діапазонів.
+     */
+    private static final class RunContainer extends Container {
+        private final char[] runs;
+        private final int runCount;
+        private final int count;
+
+        private RunContainer(char[] runs, int runCount, int count) {
+            this.runs = runs;
+            this.runCount = runCount;
+            this.count = count;
+        }
+
+        static RunContainer fromSorted(char[] lows, int count, int runCount) {
+            char[] runs = new char[runCount * 2];
+            int run = 0;
+            int start = 0;
+            for (int i = 1; i <= count; i++) {
+                if (i == count || lows[i] != lows[i - 1] + 1) {
+                    runs[2 * run] = lows[start];
+                    runs[2 * run + 1] = (char) (i - 1 - start);
+                    run++;
+                    start = i;
+                }
+            }
+            return new RunContainer(runs, runCount, count);
+        }
+
+        @Override
+        boolean contains(char low) {
+            // остання серія, що починається не пізніше за low
+            int lowIndex = 0;
+            int highIndex = runCount - 1;
+            while (lowIndex <= highIndex) {
+                int middle = (lowIndex + highIndex) >>> 1;
+                if (runs[2 * middle] <= low) {
+                    lowIndex = middle + 1;
+                } else {
+                    highIndex = middle - 1;
+                }
+            }
+            return highIndex >= 0 && low - runs[2 * highIndex] <= runs[2 * highIndex + 1];
+        }
+
+        @Override
+        int cardinality() {
+            return count;
+        }
+
+        @Override
+        char first() {
+            return runs[0];
+        }
+
+        @Override
+        char last() {
+            int last = runCount - 1;
+            return (char) (runs[2 * last] + runs[2 * last + 1]);
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int run = 0; run < runCount; run++) {
+                int start = runs[2 * run];
+                int end = start + runs[2 * run + 1];
+                for (int low = start; low <= end; low++) {
+                    words[low >>> 6] |= 1L << low;
+                }
+            }
+            return words;
+        }
+
+        @Override
+        long memoryFootprintBytes() {
+            return 16L + 24 + (long) runs.length * Character.BYTES;
+        }
+    }
+}
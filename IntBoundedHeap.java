@@ -0,0 +1,152 @@
+/**
+ * Клас IntBoundedHeap зберігає k найбільших або k найменших значень потоку int.
+ *
+ * <p>Для k найбільших значень використовується купа мінімумів розміром k: нове значення
+ * потрапляє до купи, лише якщо воно більше за її корінь, тобто за найменше з відібраних.
+ * Для k найменших — симетрично, купа максимумів. Кожне значення потоку обробляється
+ * за O(log k) без створення об'єктів, а пам'ять обмежена k елементами.</p>
+ */
+public class IntBoundedHeap {
+    private final int[] heap;
+    private final boolean keepLargest;
+    private int size;
+    private long offeredCount;
+
+    private IntBoundedHeap(int capacity, boolean keepLargest) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Розмір купи має бути додатним: " + capacity);
+        }
+        this.heap = new int[capacity];
+        this.keepLargest = keepLargest;
+    }
+
+    /**
+     * @param k Кількість значень для зберігання
+     * @return Купа, що зберігає k найбільших значень
+     */
+    public static IntBoundedHeap largest(int k) {
+        return new IntBoundedHeap(k, true);
+    }
+
+    /**
+     * @param k Кількість значень для зберігання
+     * @return Купа, що зберігає k найменших значень
+     */
+    public static IntBoundedHeap smallest(int k) {
+        return new IntBoundedHeap(k, false);
+    }
+
+    /**
+     * Обробляє чергове значення потоку.
+     *
+     * @param value Значення
+     * @return {@code true}, якщо значення потрапило до відібраних
+     */
+    public boolean offer(int value) {
+        offeredCount++;
+        if (size < heap.length) {
+            heap[size] = value;
+            siftUp(size++);
+            return true;
+        }
+        if (!precedes(heap[0], value)) {
+            return false;
+        }
+        heap[0] = value;
+        siftDown(0);
+        return true;
+    }
+
+    /**
+     * Обробляє всі значення масиву.
+     *
+     * @param values Значення потоку
+     */
+    public void offerAll(int[] values) {
+        for (int value : values) {
+            offer(value);
+        }
+    }
+
+    /**
+     * @return Межа відбору: найменше з k найбільших або найбільше з k найменших значень
+     * @throws IllegalStateException Якщо купа порожня
+     */
+    public int threshold() {
+        if (size == 0) {
+            throw new IllegalStateException("Купа порожня");
+        }
+        return heap[0];
+    }
+
+    /**
+     * @return Кількість відібраних значень
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Кількість значень, що надійшли з потоку
+     */
+    public long offeredCount() {
+        return offeredCount;
+    }
+
+    /**
+     * Повертає відібрані значення, починаючи з найкращого: для k найбільших — у порядку спадання,
+     * для k найменших — у порядку зростання. Купа при цьому не змінюється.
+     *
+     * @return Новий масив значень
+     */
+    public int[] toSortedArray() {
+        int[] result = new int[size];
+        int[] saved = heap.clone();
+        int savedSize = size;
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = heap[0];
+            heap[0] = heap[--size];
+            siftDown(0);
+        }
+        System.arraycopy(saved, 0, heap, 0, savedSize);
+        size = savedSize;
+        return result;
+    }
+
+    /**
+     * Перевіряє, чи значення {@code a} має стояти ближче до кореня, ніж {@code b}.
+     */
+    private boolean precedes(int a, int b) {
+        return keepLargest ? a < b : a > b;
+    }
+
+    private void siftUp(int index) {
+        int value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!precedes(value, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown(int index) {
+        int value = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && precedes(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!precedes(heap[child], value)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
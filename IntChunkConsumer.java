@@ -0,0 +1,19 @@
+/**
+ * Інтерфейс IntChunkConsumer приймає порції значень int під час потокового читання файлу.
+ *
+ * <p>Масив порції повторно використовується завантажувачем, тому споживач не повинен
+ * зберігати посилання на нього після повернення з методу. Споживач, якому решта файлу
+ * не потрібна (наприклад, після знаходження значення), повертає {@code false}, і читання
+ * припиняється.</p>
+ */
+@FunctionalInterface
+public interface IntChunkConsumer {
+    /**
+     * Обробляє чергову порцію значень.
+     *
+     * @param chunk Масив зі значеннями порції
+     * @param length Кількість дійсних значень на початку масиву
+     * @return {@code true}, щоб продовжити читання; {@code false}, щоб припинити його
+     */
+    boolean accept(int[] chunk, int length);
+}
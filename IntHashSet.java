@@ -0,0 +1,309 @@
+import java.util.function.IntConsumer;
+
+/**
+ * Клас IntHashSet є множиною примітивних значень int з відкритою адресацією.
+ *
+ * <p>Значення зберігаються безпосередньо в масиві int розміром у степінь двійки,
+ * колізії розв'язуються лінійним зондуванням. На відміну від {@link java.util.LinkedHashSet},
+ * множина не створює вузлів та об'єктів Integer, тому займає від 8 до 16 байтів на елемент.
+ * Найменше та найбільше значення підтримуються під час додавання і доступні за O(1);
+ * після видалення граничного значення вони обчислюються повторно під час наступного запиту.</p>
+ */
+public class IntHashSet {
+    private static final int EMPTY = 0;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] keys;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private boolean containsZero;
+    private int minValue = Integer.MAX_VALUE;
+    private int maxValue = Integer.MIN_VALUE;
+    private boolean boundsStale;
+
+    /**
+     * Створює множину з місткістю за замовчуванням.
+     */
+    IntHashSet() {
+        this(16);
+    }
+
+    /**
+     * Створює множину, розраховану на задану кількість елементів без розширення.
+     *
+     * @param expectedSize Очікувана кількість елементів
+     */
+    IntHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Створює множину з елементів масиву.
+     *
+     * @param values Масив значень
+     * @return Множина унікальних значень масиву
+     */
+    public static IntHashSet of(int[] values) {
+        IntHashSet set = new IntHashSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Додає значення до множини.
+     *
+     * @param value Значення для додавання
+     * @return {@code true}, якщо значення було відсутнє
+     */
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+        } else {
+            int index = slot(value);
+            while (keys[index] != EMPTY) {
+                if (keys[index] == value) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[index] = value;
+        }
+
+        size++;
+        if (value < minValue) {
+            minValue = value;
+        }
+        if (value > maxValue) {
+            maxValue = value;
+        }
+        if (size > resizeThreshold) {
+            // при місткості 2^30 зсув переповнив би int, тому межа перевіряється до нього
+            if (keys.length >= MAX_CAPACITY) {
+                throw new IllegalStateException("Множина перевищила максимальну місткість");
+            }
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Перевіряє наявність значення в множині.
+     *
+     * @param value Значення для пошуку
+     * @return {@code true}, якщо значення присутнє
+     */
+    public boolean contains(int value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        // таблиця читається в локальну змінну, а кількість кроків обмежена її розміром, тому метод
+        // не виходить за межі масиву й завершується навіть під час оптимістичного читання
+        // паралельно із записом (див. ConcurrentIntStore); результат такого читання перевіряється окремо
+        int[] table = keys;
+        int tableMask = table.length - 1;
+        int index = slot(value, tableMask);
+        for (int probes = table.length; probes > 0; probes--) {
+            int current = table[index];
+            if (current == value) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & tableMask;
+        }
+        return false;
+    }
+
+    /**
+     * Видаляє значення з множини.
+     *
+     * <p>Елементи, розташовані в кластері після видаленого, зсуваються назад, тому таблиця
+     * не містить позначок видалення і пошук лишається таким самим швидким.</p>
+     *
+     * @param value Значення для видалення
+     * @return {@code true}, якщо значення було присутнє
+     */
+    public boolean remove(int value) {
+        if (value == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+        } else {
+            int index = slot(value);
+            while (keys[index] != value) {
+                if (keys[index] == EMPTY) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+
+            int gap = index;
+            int next = (gap + 1) & mask;
+            while (keys[next] != EMPTY) {
+                // елемент переноситься в порожню комірку, якщо вона не раніше за його початкову позицію
+                int home = slot(keys[next]);
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = EMPTY;
+        }
+
+        size--;
+        if (value == minValue || value == maxValue) {
+            boundsStale = true;
+        }
+        return true;
+    }
+
+    /**
+     * @return Кількість елементів множини
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true}, якщо множина порожня
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return Найменше значення множини
+     * @throws IllegalStateException Якщо множина порожня
+     */
+    public int min() {
+        if (size == 0) {
+            throw new IllegalStateException("Множина порожня");
+        }
+        refreshBounds();
+        return minValue;
+    }
+
+    /**
+     * @return Найбільше значення множини
+     * @throws IllegalStateException Якщо множина порожня
+     */
+    public int max() {
+        if (size == 0) {
+            throw new IllegalStateException("Множина порожня");
+        }
+        refreshBounds();
+        return maxValue;
+    }
+
+    /**
+     * Виконує дію для кожного елемента множини в довільному порядку.
+     *
+     * @param action Дія над елементом
+     */
+    public void forEach(IntConsumer action) {
+        if (containsZero) {
+            action.accept(EMPTY);
+        }
+        for (int key : keys) {
+            if (key != EMPTY) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * @return Масив елементів множини в довільному порядку
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int index = 0;
+        if (containsZero) {
+            result[index++] = EMPTY;
+        }
+        for (int key : keys) {
+            if (key != EMPTY) {
+                result[index++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Оцінює обсяг пам'яті, що займає множина.
+     *
+     * @return Приблизний розмір у байтах (масив ключів та поля об'єкта)
+     */
+    public long memoryFootprintBytes() {
+        return 16L + (long) keys.length * Integer.BYTES + 48;
+    }
+
+    /**
+     * Обчислює початкову позицію значення в таблиці (мультиплікативне хешування Фібоначчі).
+     */
+    private int slot(int value) {
+        return slot(value, mask);
+    }
+
+    private static int slot(int value, int tableMask) {
+        int hash = value * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & tableMask;
+    }
+
+    private void refreshBounds() {
+        if (!boundsStale) {
+            return;
+        }
+        minValue = Integer.MAX_VALUE;
+        maxValue = Integer.MIN_VALUE;
+        forEach(value -> {
+            if (value < minValue) {
+                minValue = value;
+            }
+            if (value > maxValue) {
+                maxValue = value;
+            }
+        });
+        boundsStale = false;
+    }
+
+    private void rehash(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Множина перевищила максимальну місткість");
+        }
+        int[] oldKeys = keys;
+        allocate(newCapacity);
+        for (int key : oldKeys) {
+            if (key != EMPTY) {
+                int index = slot(key);
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR) + 1;
+        if (required > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(16, Integer.highestOneBit((int) required - 1) << 1);
+    }
+}
@@ -0,0 +1,360 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас IntMinMaxHeap є двосторонньою чергою з пріоритетом для примітивних значень int.
+ *
+ * <p>Елементи зберігаються в min-max купі: на парних рівнях дерева лежать значення, не більші
+ * за своїх нащадків, на непарних — не менші. Тому найменше значення завжди в корені,
+ * а найбільше — серед його дочірніх вузлів, і обидва доступні за O(1), а видалення з будь-якого
+ * кінця виконується за O(log n).</p>
+ *
+ * <p>Перевірка наявності значення без додаткового індексу потребує лінійного перегляду масиву.
+ * Якщо купу створено з індексом членства, кількість входжень кожного значення зберігається
+ * в окремій хеш-таблиці, і {@link #contains(int)} виконується за O(1) у середньому.</p>
+ */
+public class IntMinMaxHeap {
+    private int[] heap;
+    private int size;
+    private final OccurrenceIndex membershipIndex;
+
+    /**
+     * Створює порожню купу заданої місткості.
+     *
+     * @param initialCapacity Початкова місткість
+     * @param withMembershipIndex Чи підтримувати індекс для швидкої перевірки наявності
+     */
+    IntMinMaxHeap(int initialCapacity, boolean withMembershipIndex) {
+        this.heap = new int[Math.max(initialCapacity, 16)];
+        this.membershipIndex = withMembershipIndex ? new OccurrenceIndex(initialCapacity) : null;
+    }
+
+    /**
+     * Будує купу з елементів масиву за O(n).
+     *
+     * @param values Масив значень (не змінюється)
+     * @param withMembershipIndex Чи підтримувати індекс для швидкої перевірки наявності
+     * @return Купа з усіма значеннями масиву, включно з повторами
+     */
+    public static IntMinMaxHeap of(int[] values, boolean withMembershipIndex) {
+        IntMinMaxHeap result = new IntMinMaxHeap(values.length, withMembershipIndex);
+        System.arraycopy(values, 0, result.heap, 0, values.length);
+        result.size = values.length;
+        for (int index = (result.size >>> 1) - 1; index >= 0; index--) {
+            result.trickleDown(index);
+        }
+        if (result.membershipIndex != null) {
+            for (int value : values) {
+                result.membershipIndex.increment(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Додає значення до купи.
+     *
+     * @param value Значення для додавання
+     */
+    public void add(int value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length << 1);
+        }
+        heap[size] = value;
+        bubbleUp(size++);
+        if (membershipIndex != null) {
+            membershipIndex.increment(value);
+        }
+    }
+
+    /**
+     * @return Найменше значення купи
+     * @throws NoSuchElementException Якщо купа порожня
+     */
+    public int peekMin() {
+        requireNotEmpty();
+        return heap[0];
+    }
+
+    /**
+     * @return Найбільше значення купи
+     * @throws NoSuchElementException Якщо купа порожня
+     */
+    public int peekMax() {
+        requireNotEmpty();
+        return heap[maxIndex()];
+    }
+
+    /**
+     * Видаляє та повертає найменше значення купи.
+     *
+     * @return Найменше значення
+     * @throws NoSuchElementException Якщо купа порожня
+     */
+    public int pollMin() {
+        requireNotEmpty();
+        return removeAt(0);
+    }
+
+    /**
+     * Видаляє та повертає найбільше значення купи.
+     *
+     * @return Найбільше значення
+     * @throws NoSuchElementException Якщо купа порожня
+     */
+    public int pollMax() {
+        requireNotEmpty();
+        return removeAt(maxIndex());
+    }
+
+    /**
+     * Перевіряє наявність значення в купі.
+     *
+     * @param value Значення для пошуку
+     * @return {@code true}, якщо значення присутнє
+     */
+    public boolean contains(int value) {
+        if (membershipIndex != null) {
+            return membershipIndex.count(value) > 0;
+        }
+        for (int index = 0; index < size; index++) {
+            if (heap[index] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true}, якщо купа підтримує індекс членства
+     */
+    public boolean hasMembershipIndex() {
+        return membershipIndex != null;
+    }
+
+    /**
+     * @return Кількість елементів купи
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true}, якщо купа порожня
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Купа порожня");
+        }
+    }
+
+    private int maxIndex() {
+        if (size == 1) {
+            return 0;
+        }
+        if (size == 2 || heap[1] >= heap[2]) {
+            return 1;
+        }
+        return 2;
+    }
+
+    private int removeAt(int index) {
+        int removed = heap[index];
+        int last = heap[--size];
+        if (index < size) {
+            heap[index] = last;
+            trickleDown(index);
+            // елемент з останньої позиції міг опинитися не на своєму рівні відносно предків
+            bubbleUp(index);
+        }
+        if (membershipIndex != null) {
+            membershipIndex.decrement(removed);
+        }
+        return removed;
+    }
+
+    private static boolean isMinLevel(int index) {
+        return ((31 - Integer.numberOfLeadingZeros(index + 1)) & 1) == 0;
+    }
+
+    private void trickleDown(int index) {
+        boolean minLevel = isMinLevel(index);
+        while (true) {
+            int firstChild = 2 * index + 1;
+            if (firstChild >= size) {
+                return;
+            }
+            // шукаємо крайній елемент серед дітей та онуків
+            int extreme = firstChild;
+            int lastDescendant = Math.min(4 * index + 6, size - 1);
+            for (int candidate = firstChild + 1; candidate <= lastDescendant; candidate++) {
+                if (candidate == firstChild + 2) {
+                    candidate = 4 * index + 3;
+                    if (candidate > lastDescendant) {
+                        break;
+                    }
+                }
+                if (minLevel ? heap[candidate] < heap[extreme] : heap[candidate] > heap[extreme]) {
+                    extreme = candidate;
+                }
+            }
+
+            if (minLevel ? heap[extreme] >= heap[index] : heap[extreme] <= heap[index]) {
+                return;
+            }
+            swap(extreme, index);
+            if (extreme <= firstChild + 1) {
+                return;
+            }
+            int parent = (extreme - 1) >>> 1;
+            if (minLevel ? heap[extreme] > heap[parent] : heap[extreme] < heap[parent]) {
+                swap(extreme, parent);
+            }
+            index = extreme;
+        }
+    }
+
+    private void bubbleUp(int index) {
+        if (index == 0) {
+            return;
+        }
+        int parent = (index - 1) >>> 1;
+        if (isMinLevel(index)) {
+            if (heap[index] > heap[parent]) {
+                swap(index, parent);
+                bubbleUpGrandparents(parent, false);
+            } else {
+                bubbleUpGrandparents(index, true);
+            }
+        } else {
+            if (heap[index] < heap[parent]) {
+                swap(index, parent);
+                bubbleUpGrandparents(parent, true);
+            } else {
+                bubbleUpGrandparents(index, false);
+            }
+        }
+    }
+
+    private void bubbleUpGrandparents(int index, boolean minLevel) {
+        while (index > 2) {
+            int grandparent = (((index - 1) >>> 1) - 1) >>> 1;
+            if (minLevel ? heap[index] >= heap[grandparent] : heap[index] <= heap[grandparent]) {
+                return;
+            }
+            swap(index, grandparent);
+            index = grandparent;
+        }
+    }
+
+    private void swap(int first, int second) {
+        int value = heap[first];
+        heap[first] = heap[second];
+        heap[second] = value;
+    }
+
+    /**
+     * Хеш-таблиця кількості входжень значень з відкритою адресацією.
+     * Порожню комірку позначає нульова кількість, тому окремий прапорець не потрібен.
+     */
+    private static final class OccurrenceIndex {
+        private int[] keys;
+        private int[] counts;
+        private int mask;
+        private int distinct;
+
+        OccurrenceIndex(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+            allocate(capacity);
+        }
+
+        int count(int value) {
+            int index = slot(value, mask);
+            while (counts[index] != 0) {
+                if (keys[index] == value) {
+                    return counts[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return 0;
+        }
+
+        void increment(int value) {
+            int index = slot(value, mask);
+            while (counts[index] != 0) {
+                if (keys[index] == value) {
+                    counts[index]++;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[index] = value;
+            counts[index] = 1;
+            if (++distinct > (keys.length >>> 1)) {
+                rehash(keys.length << 1);
+            }
+        }
+
+        void decrement(int value) {
+            int index = slot(value, mask);
+            while (counts[index] != 0) {
+                if (keys[index] == value) {
+                    if (--counts[index] == 0) {
+                        distinct--;
+                        shiftBack(index);
+                    }
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        /**
+         * Зсуває наступні елементи ланцюжка зондування на місце звільненої комірки.
+         */
+        private void shiftBack(int freed) {
+            int index = (freed + 1) & mask;
+            while (counts[index] != 0) {
+                int home = slot(keys[index], mask);
+                if (((index - home) & mask) >= ((index - freed) & mask)) {
+                    keys[freed] = keys[index];
+                    counts[freed] = counts[index];
+                    counts[index] = 0;
+                    freed = index;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private void rehash(int capacity) {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            allocate(capacity);
+            for (int index = 0; index < oldKeys.length; index++) {
+                if (oldCounts[index] != 0) {
+                    int target = slot(oldKeys[index], mask);
+                    while (counts[target] != 0) {
+                        target = (target + 1) & mask;
+                    }
+                    keys[target] = oldKeys[index];
+                    counts[target] = oldCounts[index];
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new int[capacity];
+            counts = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private static int slot(int value, int mask) {
+            int hash = value * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
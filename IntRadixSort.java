@@ -0,0 +1,182 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Клас IntRadixSort містить порозрядне сортування масивів int.
+ *
+ * <p>Значення розбиваються на чотири байти. Для старшого байта інвертується знаковий біт,
+ * тому від'ємні числа опиняються перед додатними без окремої обробки. Прохід, у якому всі
+ * елементи мають однаковий байт, пропускається.</p>
+ *
+ * <p>Паралельний варіант спочатку розподіляє елементи за старшим байтом (MSD) у 256 кошиків,
+ * рахуючи гістограми та переносячи частини масиву в окремих задачах, а потім незалежно
+ * сортує кожен кошик за трьома молодшими байтами (LSD).</p>
+ */
+public class IntRadixSort {
+    private static final int RADIX = 256;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int INSERTION_THRESHOLD = 64;
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 8;
+    private static final int MIN_PARALLEL_CHUNK = 1 << 16;
+
+    private IntRadixSort() {
+    }
+
+    /**
+     * Упорядковує масив за зростанням порозрядним сортуванням LSD.
+     *
+     * @param array Масив для впорядкування
+     */
+    public static void sort(int[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Упорядковує діапазон масиву за зростанням порозрядним сортуванням LSD.
+     * Проміжний буфер має розмір діапазону, а не всього масиву.
+     *
+     * @param array Масив для впорядкування
+     * @param from Початкова позиція включно
+     * @param to Кінцева позиція виключно
+     */
+    public static void sort(int[] array, int from, int to) {
+        if (to - from < SEQUENTIAL_THRESHOLD) {
+            Arrays.sort(array, from, to);
+            return;
+        }
+        sortRange(array, new int[to - from], from, from, to, 4);
+    }
+
+    /**
+     * Упорядковує масив за зростанням паралельним порозрядним сортуванням MSD + LSD.
+     *
+     * @param array Масив для впорядкування
+     */
+    public static void parallelSort(int[] array) {
+        int length = array.length;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (length < 2 * MIN_PARALLEL_CHUNK || parallelism < 2) {
+            sort(array);
+            return;
+        }
+
+        int chunkCount = Math.min(parallelism * 4, length / MIN_PARALLEL_CHUNK);
+        int chunkSize = (length + chunkCount - 1) / chunkCount;
+        int[][] chunkOffsets = new int[chunkCount][RADIX];
+
+        // гістограма старшого байта для кожної частини масиву
+        parallelFor(chunkCount, chunk -> {
+            int[] counts = chunkOffsets[chunk];
+            int end = Math.min(length, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                counts[digit(array[i], 3)]++;
+            }
+        });
+
+        // зміщення кожної частини всередині кожного кошика
+        int[] bucketStarts = new int[RADIX + 1];
+        int position = 0;
+        for (int bucket = 0; bucket < RADIX; bucket++) {
+            bucketStarts[bucket] = position;
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int count = chunkOffsets[chunk][bucket];
+                chunkOffsets[chunk][bucket] = position;
+                position += count;
+            }
+        }
+        bucketStarts[RADIX] = length;
+
+        int[] buffer = new int[length];
+        parallelFor(chunkCount, chunk -> {
+            int[] offsets = chunkOffsets[chunk];
+            int end = Math.min(length, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                int value = array[i];
+                buffer[offsets[digit(value, 3)]++] = value;
+            }
+        });
+
+        // кошики не перетинаються, тому сортуються незалежно; результат повертається в array
+        parallelFor(RADIX, bucket -> {
+            int from = bucketStarts[bucket];
+            int to = bucketStarts[bucket + 1];
+            if (to - from < SEQUENTIAL_THRESHOLD) {
+                Arrays.sort(buffer, from, to);
+            } else {
+                sortRange(buffer, array, 0, from, to, 3);
+            }
+            System.arraycopy(buffer, from, array, from, to - from);
+        });
+    }
+
+    /**
+     * Сортує діапазон масиву за молодшими {@code digitCount} байтами, використовуючи буфер
+     * як проміжне сховище: позиції {@code i} масиву відповідає позиція {@code i - bufferOffset} буфера.
+     */
+    private static void sortRange(int[] array, int[] buffer, int bufferOffset, int from, int to, int digitCount) {
+        if (to - from < INSERTION_THRESHOLD) {
+            Arrays.sort(array, from, to);
+            return;
+        }
+
+        int[][] counts = new int[digitCount][RADIX];
+        for (int i = from; i < to; i++) {
+            int value = array[i];
+            for (int digitIndex = 0; digitIndex < digitCount; digitIndex++) {
+                counts[digitIndex][digit(value, digitIndex)]++;
+            }
+        }
+
+        int[] source = array;
+        int[] target = buffer;
+        int sourceOffset = 0;
+        int targetOffset = bufferOffset;
+        for (int digitIndex = 0; digitIndex < digitCount; digitIndex++) {
+            int[] offsets = counts[digitIndex];
+            if (offsets[digit(source[from - sourceOffset], digitIndex)] == to - from) {
+                continue;
+            }
+            int position = from;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int count = offsets[bucket];
+                offsets[bucket] = position;
+                position += count;
+            }
+            for (int i = from - sourceOffset; i < to - sourceOffset; i++) {
+                int value = source[i];
+                target[offsets[digit(value, digitIndex)]++ - targetOffset] = value;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+            int swapOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swapOffset;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, from - sourceOffset, array, from, to - from);
+        }
+    }
+
+    /**
+     * Повертає байт значення з номером {@code digitIndex}; у старшому байті знаковий біт інвертовано.
+     */
+    private static int digit(int value, int digitIndex) {
+        int digit = (value >>> (digitIndex << 3)) & DIGIT_MASK;
+        return digitIndex == 3 ? digit ^ 0x80 : digit;
+    }
+
+    private static void parallelFor(int count, IntConsumer body) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            tasks.add(ForkJoinTask.adapt(() -> body.accept(index)));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+}
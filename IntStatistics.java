@@ -0,0 +1,198 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Клас IntStatistics містить кількість, найменше, найбільше значення та суму набору int,
+ * обчислені за один прохід.
+ *
+ * <p>Мінімум, максимум і сума накопичуються в одному циклі по примітивному масиву, тому дані
+ * читаються з пам'яті один раз. Оновлення мінімуму та максимуму на випадкових даних рідкісні
+ * й добре передбачаються процесором. Великі масиви ділляться на частини, що обробляються
+ * паралельно, а часткові результати поєднуються методом {@link #combine(IntStatistics)}.</p>
+ */
+public final class IntStatistics {
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+    private static final int MIN_PARALLEL_CHUNK = 1 << 16;
+    private static final IntStatistics EMPTY = new IntStatistics(0, Integer.MAX_VALUE, Integer.MIN_VALUE, 0);
+
+    private final long count;
+    private final int min;
+    private final int max;
+    private final long sum;
+
+    private IntStatistics(long count, int min, int max, long sum) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+    }
+
+    /**
+     * Обчислює статистику масиву, паралельно для масивів від 2<sup>20</sup> елементів
+     * на багатоядерних системах.
+     *
+     * @param values Масив значень
+     * @return Статистика масиву
+     */
+    public static IntStatistics of(int[] values) {
+        if (values.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return parallelOf(values);
+        }
+        return of(values, 0, values.length);
+    }
+
+    /**
+     * Обчислює статистику частини масиву одним проходом.
+     *
+     * @param values Масив значень
+     * @param from Початкова позиція включно
+     * @param to Кінцева позиція виключно
+     * @return Статистика частини масиву
+     */
+    public static IntStatistics of(int[] values, int from, int to) {
+        if (from >= to) {
+            return EMPTY;
+        }
+
+        int min = values[from];
+        int max = min;
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            int value = values[i];
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+            sum += value;
+        }
+        return new IntStatistics(to - from, min, max, sum);
+    }
+
+    /**
+     * Обчислює статистику масиву паралельно: частини масиву обробляються в окремих задачах
+     * спільного пулу, а часткові результати поєднуються.
+     *
+     * @param values Масив значень
+     * @return Статистика масиву
+     */
+    public static IntStatistics parallelOf(int[] values) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunkCount = Math.max(1, Math.min(parallelism * 4, values.length / MIN_PARALLEL_CHUNK));
+        if (chunkCount == 1) {
+            return of(values, 0, values.length);
+        }
+
+        int chunkSize = (values.length + chunkCount - 1) / chunkCount;
+        List<ForkJoinTask<IntStatistics>> tasks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = chunk * chunkSize;
+            int to = Math.min(values.length, from + chunkSize);
+            tasks.add(ForkJoinTask.adapt(() -> of(values, from, to)));
+        }
+
+        IntStatistics result = EMPTY;
+        for (ForkJoinTask<IntStatistics> task : ForkJoinTask.invokeAll(tasks)) {
+            result = result.combine(task.join());
+        }
+        return result;
+    }
+
+    /**
+     * Обчислює статистику колекції об'єктів Integer одним проходом замість окремих
+     * проходів для мінімуму та максимуму.
+     *
+     * @param values Колекція значень
+     * @return Статистика колекції
+     */
+    public static IntStatistics ofBoxed(Iterable<Integer> values) {
+        long count = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        long sum = 0;
+        for (Integer boxedValue : values) {
+            int value = boxedValue;
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+            sum += value;
+            count++;
+        }
+        return count == 0 ? EMPTY : new IntStatistics(count, min, max, sum);
+    }
+
+    /**
+     * Поєднує статистику двох незалежних частин даних.
+     *
+     * @param other Статистика іншої частини
+     * @return Статистика об'єднаних даних
+     */
+    public IntStatistics combine(IntStatistics other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        return new IntStatistics(count + other.count, Math.min(min, other.min), Math.max(max, other.max),
+                sum + other.sum);
+    }
+
+    /**
+     * @return Кількість значень
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return Найменше значення
+     * @throws IllegalStateException Якщо значень немає
+     */
+    public int min() {
+        requireValues();
+        return min;
+    }
+
+    /**
+     * @return Найбільше значення
+     * @throws IllegalStateException Якщо значень немає
+     */
+    public int max() {
+        requireValues();
+        return max;
+    }
+
+    /**
+     * @return Сума значень (без переповнення для масивів довжиною до 2<sup>32</sup>)
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * @return Середнє значення або 0, якщо значень немає
+     */
+    public double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    @Override
+    public String toString() {
+        return count == 0 ? "значень немає"
+                : String.format("кількість: %d, мінімум: %d, максимум: %d, сума: %d, середнє: %.2f",
+                        count, min, max, sum, mean());
+    }
+
+    private void requireValues() {
+        if (count == 0) {
+            throw new IllegalStateException("Значень немає");
+        }
+    }
+}
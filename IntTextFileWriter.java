@@ -0,0 +1,288 @@
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Клас IntTextFileWriter записує значення int у текстовий файл, по одному в рядку.
+ *
+ * <p>Числа перетворюються на цифри безпосередньо в буфері байтів за таблицею пар цифр, без
+ * створення рядків для кожного значення, а заповнений буфер записується в {@link FileChannel}
+ * великими блоками. Великі масиви на багатоядерних системах записуються паралельно: спочатку
+ * обчислюється точний розмір тексту кожної частини, після чого частини форматуються незалежно
+ * й записуються за своїми зміщеннями у файл заздалегідь заданого розміру.</p>
+ *
+ * <p>Дані спершу записуються в тимчасовий файл у тому ж каталозі, який після завершення
+ * запису атомарно перейменовується на файл результату (див. {@link AtomicFiles}). Тому читачі
+ * ніколи не бачать частково записаного файлу, а при помилці попередній вміст файлу результату
+ * зберігається.</p>
+ */
+public class IntTextFileWriter implements AutoCloseable {
+    private static final int BLOCK_BYTES = 1 << 20;
+    private static final int MAX_LINE_BYTES = 12;
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+    private static final int MIN_PARALLEL_CHUNK = 1 << 16;
+    private static final byte[] DIGIT_TENS = new byte[100];
+    private static final byte[] DIGIT_ONES = new byte[100];
+
+    static {
+        for (int pair = 0; pair < 100; pair++) {
+            DIGIT_TENS[pair] = (byte) ('0' + pair / 10);
+            DIGIT_ONES[pair] = (byte) ('0' + pair % 10);
+        }
+    }
+
+    private final Path target;
+    private final Path temporaryFile;
+    private final FileChannel channel;
+    private final byte[] block = new byte[BLOCK_BYTES];
+    private int blockLength;
+    private boolean committed;
+
+    private IntTextFileWriter(Path target) throws IOException {
+        this.target = target;
+        this.temporaryFile = AtomicFiles.createTemporaryFile(target);
+        try {
+            this.channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException ioException) {
+            Files.deleteIfExists(temporaryFile);
+            throw ioException;
+        }
+    }
+
+    /**
+     * Відкриває файл для послідовного запису значень.
+     *
+     * <p>Записані значення з'являються у файлі результату лише після виклику {@link #commit()};
+     * якщо {@link #close()} викликано без нього, тимчасовий файл видаляється.</p>
+     *
+     * @param filePath Шлях до файлу результату
+     * @return Об'єкт запису
+     * @throws IOException Якщо тимчасовий файл не вдалося створити
+     */
+    public static IntTextFileWriter open(String filePath) throws IOException {
+        return new IntTextFileWriter(Path.of(filePath));
+    }
+
+    /**
+     * Записує масив у файл, паралельно для масивів від 2<sup>20</sup> елементів на
+     * багатоядерних системах.
+     *
+     * @param values Масив значень
+     * @param filePath Шлях до файлу результату
+     * @throws IOException Якщо файл не вдалося записати
+     */
+    public static void write(int[] values, String filePath) throws IOException {
+        if (values.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            writeParallel(values, filePath);
+            return;
+        }
+        try (IntTextFileWriter writer = open(filePath)) {
+            writer.appendAll(values, 0, values.length);
+            writer.commit();
+        }
+    }
+
+    /**
+     * Записує масив у файл паралельно: частини масиву форматуються в окремих задачах
+     * спільного пулу й записуються за обчисленими зміщеннями.
+     *
+     * @param values Масив значень
+     * @param filePath Шлях до файлу результату
+     * @throws IOException Якщо файл не вдалося записати
+     */
+    public static void writeParallel(int[] values, String filePath) throws IOException {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunkCount = Math.max(1, Math.min(parallelism * 4, values.length / MIN_PARALLEL_CHUNK));
+        int chunkSize = Math.max(1, (values.length + chunkCount - 1) / chunkCount);
+
+        // перший прохід: точний розмір тексту кожної частини
+        List<ForkJoinTask<Long>> sizeTasks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = Math.min(values.length, chunk * chunkSize);
+            int to = Math.min(values.length, from + chunkSize);
+            sizeTasks.add(ForkJoinTask.adapt(() -> textLength(values, from, to)));
+        }
+        long[] chunkOffsets = new long[chunkCount + 1];
+        int chunk = 0;
+        for (ForkJoinTask<Long> sizeTask : ForkJoinTask.invokeAll(sizeTasks)) {
+            chunkOffsets[chunk + 1] = chunkOffsets[chunk] + sizeTask.join();
+            chunk++;
+        }
+
+        Path target = Path.of(filePath);
+        Path temporaryFile = AtomicFiles.createTemporaryFile(target);
+        boolean written = false;
+        try {
+            try (RandomAccessFile file = new RandomAccessFile(temporaryFile.toFile(), "rw")) {
+                file.setLength(chunkOffsets[chunkCount]);
+                FileChannel fileChannel = file.getChannel();
+
+                // другий прохід: частини форматуються й записуються незалежно за своїми зміщеннями
+                List<ForkJoinTask<?>> writeTasks = new ArrayList<>(chunkCount);
+                for (int part = 0; part < chunkCount; part++) {
+                    int from = Math.min(values.length, part * chunkSize);
+                    int to = Math.min(values.length, from + chunkSize);
+                    long offset = chunkOffsets[part];
+                    writeTasks.add(ForkJoinTask.adapt(() -> {
+                        try {
+                            writeChunk(fileChannel, values, from, to, offset);
+                        } catch (IOException ioException) {
+                            throw new UncheckedIOException(ioException);
+                        }
+                    }));
+                }
+                ForkJoinTask.invokeAll(writeTasks);
+            } catch (UncheckedIOException uncheckedException) {
+                throw uncheckedException.getCause();
+            }
+            AtomicFiles.moveIntoPlace(temporaryFile, target);
+            written = true;
+        } finally {
+            if (!written) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    /**
+     * Додає значення в кінець файлу.
+     *
+     * @param value Значення
+     * @throws IOException Якщо заповнений буфер не вдалося записати
+     */
+    public void append(int value) throws IOException {
+        if (blockLength > BLOCK_BYTES - MAX_LINE_BYTES) {
+            flushBlock();
+        }
+        blockLength = formatLine(value, block, blockLength);
+    }
+
+    /**
+     * Додає частину масиву в кінець файлу.
+     *
+     * @param values Масив значень
+     * @param from Початкова позиція включно
+     * @param to Кінцева позиція виключно
+     * @throws IOException Якщо заповнений буфер не вдалося записати
+     */
+    public void appendAll(int[] values, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            if (blockLength > BLOCK_BYTES - MAX_LINE_BYTES) {
+                flushBlock();
+            }
+            blockLength = formatLine(values[i], block, blockLength);
+        }
+    }
+
+    /**
+     * Завершує запис і атомарно замінює файл результату записаним вмістом.
+     *
+     * @throws IOException Якщо дані не вдалося записати або перейменувати файл
+     */
+    public void commit() throws IOException {
+        flushBlock();
+        channel.close();
+        AtomicFiles.moveIntoPlace(temporaryFile, target);
+        committed = true;
+    }
+
+    /**
+     * Закриває файл; якщо запис не було завершено {@link #commit()}, тимчасовий файл видаляється.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(block, 0, blockLength);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        blockLength = 0;
+    }
+
+    private static void writeChunk(FileChannel fileChannel, int[] values, int from, int to, long offset)
+            throws IOException {
+        byte[] chunkBlock = new byte[(int) Math.min(BLOCK_BYTES, (long) (to - from) * MAX_LINE_BYTES)];
+        long position = offset;
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            if (length > chunkBlock.length - MAX_LINE_BYTES) {
+                position += writeAt(fileChannel, chunkBlock, length, position);
+                length = 0;
+            }
+            length = formatLine(values[i], chunkBlock, length);
+        }
+        writeAt(fileChannel, chunkBlock, length, position);
+    }
+
+    private static int writeAt(FileChannel fileChannel, byte[] bytes, int length, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+        while (buffer.hasRemaining()) {
+            fileChannel.write(buffer, position + buffer.position());
+        }
+        return length;
+    }
+
+    /**
+     * Записує значення та символ нового рядка в буфер.
+     *
+     * @return Позиція після записаного рядка
+     */
+    static int formatLine(int value, byte[] target, int offset) {
+        int end = offset + digitLength(value);
+        int position = end;
+        // цифри обчислюються з від'ємного значення, щоб Integer.MIN_VALUE не переповнювався
+        int remaining = value < 0 ? value : -value;
+        while (remaining <= -100) {
+            int quotient = remaining / 100;
+            int pair = quotient * 100 - remaining;
+            remaining = quotient;
+            target[--position] = DIGIT_ONES[pair];
+            target[--position] = DIGIT_TENS[pair];
+        }
+        int pair = -remaining;
+        target[--position] = DIGIT_ONES[pair];
+        if (pair >= 10) {
+            target[--position] = DIGIT_TENS[pair];
+        }
+        if (value < 0) {
+            target[--position] = '-';
+        }
+        target[end] = '\n';
+        return end + 1;
+    }
+
+    /**
+     * @return Кількість символів запису значення разом зі знаком мінус
+     */
+    static int digitLength(int value) {
+        int remaining = value < 0 ? value : -value;
+        int length = 1;
+        for (int threshold = -10; length < 10 && remaining <= threshold; threshold *= 10) {
+            length++;
+        }
+        return value < 0 ? length + 1 : length;
+    }
+
+    private static long textLength(int[] values, int from, int to) {
+        long length = 0;
+        for (int i = from; i < to; i++) {
+            length += digitLength(values[i]) + 1;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,119 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Клас LatencyHistogram накопичує значення тривалості в логарифмічних кошиках.
+ *
+ * <p>Кожен степінь двійки поділено на 32 лінійні підкошики, тому відносна похибка
+ * перцентилів не перевищує 3%. Запис значення не створює об'єктів і безпечний для
+ * виклику з кількох потоків одночасно.</p>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Записує одне значення.
+     *
+     * @param value Значення (від'ємні значення вважаються нулем)
+     */
+    public void record(long value) {
+        long normalized = Math.max(value, 0);
+        bucketCounts.incrementAndGet(bucketIndex(normalized));
+        totalCount.incrementAndGet();
+        totalSum.addAndGet(normalized);
+        minValue.accumulateAndGet(normalized, Math::min);
+        maxValue.accumulateAndGet(normalized, Math::max);
+    }
+
+    /**
+     * @return Кількість записаних значень
+     */
+    public long count() {
+        return totalCount.get();
+    }
+
+    /**
+     * @return Найменше записане значення або 0, якщо значень немає
+     */
+    public long min() {
+        return count() == 0 ? 0 : minValue.get();
+    }
+
+    /**
+     * @return Найбільше записане значення або 0, якщо значень немає
+     */
+    public long max() {
+        return count() == 0 ? 0 : maxValue.get();
+    }
+
+    /**
+     * @return Середнє значення або 0, якщо значень немає
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) totalSum.get() / count;
+    }
+
+    /**
+     * Повертає значення заданого перцентиля.
+     *
+     * @param percentile Перцентиль від 0 до 100
+     * @return Верхня межа кошика, в який потрапляє перцентиль, але не більше максимуму
+     */
+    public long percentile(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long targetRank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long cumulative = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            cumulative += bucketCounts.get(index);
+            if (cumulative >= targetRank) {
+                return Math.min(Math.max(bucketUpperBound(index), min()), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Очищує гістограму.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            bucketCounts.set(index, 0);
+        }
+        totalCount.set(0);
+        totalSum.set(0);
+        minValue.set(Long.MAX_VALUE);
+        maxValue.set(Long.MIN_VALUE);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long lowerBound = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,179 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Клас LearnedSearchIndex наближає позицію значення кусково-лінійною моделлю.
+ *
+ * <p>Впорядкований масив розбивається на відрізки, у межах кожного з яких позиція першого
+ * входження будь-якого значення відрізняється від прямої не більше ніж на {@code epsilon}
+ * (жадібне звуження конуса допустимих нахилів, як у PGM-індексі). Пошук знаходить відрізок
+ * двійковим пошуком серед невеликої кількості перших ключів, обчислює передбачену позицію
+ * і переглядає лише вікно навколо неї. Якщо межі вікна не підтверджують результат
+ * (наприклад, через довгі серії повторів), виконується звичайний двійковий пошук
+ * по всьому масиву, тому результат завжди коректний.</p>
+ *
+ * <p>Допустима похибка задається системною властивістю {@code search.index.epsilon}
+ * (за замовчуванням 32).</p>
+ */
+public class LearnedSearchIndex implements SearchIndex {
+    private static final int DEFAULT_EPSILON = 32;
+
+    private final int[] sortedValues;
+    private final int epsilon;
+    private final int[] segmentKeys;
+    private final int[] segmentPositions;
+    private final double[] segmentSlopes;
+    private final int segmentCount;
+    private final int maxError;
+    private final double averageError;
+    private final LongAdder fallbackCount = new LongAdder();
+
+    /**
+     * @param sortedValues Впорядкований за зростанням масив (не копіюється)
+     */
+    LearnedSearchIndex(int[] sortedValues) {
+        this(sortedValues, Integer.getInteger("search.index.epsilon", DEFAULT_EPSILON));
+    }
+
+    /**
+     * @param sortedValues Впорядкований за зростанням масив (не копіюється)
+     * @param epsilon Допустима похибка передбаченої позиції
+     */
+    LearnedSearchIndex(int[] sortedValues, int epsilon) {
+        this.sortedValues = sortedValues;
+        this.epsilon = Math.max(epsilon, 1);
+
+        int length = sortedValues.length;
+        int[] keys = new int[Math.max(length, 1)];
+        int[] positions = new int[Math.max(length, 1)];
+        double[] slopes = new double[Math.max(length, 1)];
+        int count = 0;
+
+        double slopeLow = 0;
+        double slopeHigh = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            int value = sortedValues[i];
+            if (i > 0 && sortedValues[i - 1] == value) {
+                continue;
+            }
+            if (count > 0) {
+                // звужуємо конус нахилів, за яких точка (value, i) лишається в межах похибки
+                double dx = (double) value - keys[count - 1];
+                double dy = i - positions[count - 1];
+                double low = Math.max(slopeLow, (dy - this.epsilon) / dx);
+                double high = Math.min(slopeHigh, (dy + this.epsilon) / dx);
+                if (low <= high) {
+                    slopeLow = low;
+                    slopeHigh = high;
+                    continue;
+                }
+                slopes[count - 1] = segmentSlope(slopeLow, slopeHigh);
+            }
+            keys[count] = value;
+            positions[count] = i;
+            count++;
+            slopeLow = 0;
+            slopeHigh = Double.POSITIVE_INFINITY;
+        }
+        if (count > 0) {
+            slopes[count - 1] = segmentSlope(slopeLow, slopeHigh);
+        }
+
+        this.segmentCount = count;
+        this.segmentKeys = Arrays.copyOf(keys, count);
+        this.segmentPositions = Arrays.copyOf(positions, count);
+        this.segmentSlopes = Arrays.copyOf(slopes, count);
+
+        // фактична похибка моделі на всіх значеннях масиву
+        int worstError = 0;
+        long errorSum = 0;
+        int distinctCount = 0;
+        int segment = 0;
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && sortedValues[i - 1] == sortedValues[i]) {
+                continue;
+            }
+            while (segment + 1 < count && segmentKeys[segment + 1] <= sortedValues[i]) {
+                segment++;
+            }
+            int error = Math.abs(predict(segment, sortedValues[i]) - i);
+            worstError = Math.max(worstError, error);
+            errorSum += error;
+            distinctCount++;
+        }
+        this.maxError = worstError;
+        this.averageError = length == 0 ? 0 : (double) errorSum / distinctCount;
+    }
+
+    @Override
+    public int search(int value) {
+        int length = sortedValues.length;
+        if (segmentCount == 0 || value <= segmentKeys[0]) {
+            return result(value, 0);
+        }
+
+        // останній відрізок, перший ключ якого не більший за значення
+        int segment = IntArraySearch.lowerBound(segmentKeys, value);
+        if (segment == segmentCount || segmentKeys[segment] != value) {
+            segment--;
+        }
+        int predicted = predict(segment, value);
+        int low = Math.max(predicted - epsilon - 1, 0);
+        int high = Math.min(predicted + epsilon + 2, length);
+
+        int position = low;
+        int end = high;
+        while (position < end) {
+            int middle = (position + end) >>> 1;
+            if (sortedValues[middle] < value) {
+                position = middle + 1;
+            } else {
+                end = middle;
+            }
+        }
+
+        // вікно підтверджує результат, лише якщо ліворуч від нього менші значення, а праворуч — не менші
+        boolean leftBoundValid = low == 0 || sortedValues[low - 1] < value;
+        boolean rightBoundValid = position < high || high == length;
+        if (!leftBoundValid || !rightBoundValid) {
+            fallbackCount.increment();
+            position = IntArraySearch.lowerBound(sortedValues, value);
+        }
+        return result(value, position);
+    }
+
+    @Override
+    public String name() {
+        return "learned";
+    }
+
+    @Override
+    public long memoryFootprintBytes() {
+        return 3L * 16 + (long) segmentCount * (2 * Integer.BYTES + Double.BYTES) + 64;
+    }
+
+    @Override
+    public String statistics() {
+        return String.format("відрізків: %d, допустима похибка: %d, максимальна похибка: %d, "
+                + "середня похибка: %.2f, повернень до двійкового пошуку: %d",
+                segmentCount, epsilon, maxError, averageError, fallbackCount.sum());
+    }
+
+    /**
+     * Обчислює передбачену позицію значення в межах відрізка та наступного за ним.
+     */
+    private int predict(int segment, int value) {
+        double offset = segmentSlopes[segment] * ((double) value - segmentKeys[segment]);
+        int limit = segment + 1 < segmentCount ? segmentPositions[segment + 1] : sortedValues.length;
+        int predicted = segmentPositions[segment] + (int) Math.round(offset);
+        return Math.min(Math.max(predicted, segmentPositions[segment]), limit);
+    }
+
+    private int result(int value, int position) {
+        return position < sortedValues.length && sortedValues[position] == value ? position : -position - 1;
+    }
+
+    private static double segmentSlope(double slopeLow, double slopeHigh) {
+        return slopeHigh == Double.POSITIVE_INFINITY ? slopeLow : (slopeLow + slopeHigh) / 2;
+    }
+}
@@ -0,0 +1,313 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Клас MappedIntFileParser розбирає текстові файли з цілими числами через відображення файлу в пам'ять.
+ *
+ * <p>Файл ділиться на фрагменти, вирівняні за символом нового рядка. Кожен фрагмент
+ * відображається окремо через {@link FileChannel#map} і розбирається паралельно у пулі
+ * fork-join безпосередньо з байтів, без створення рядків. Маркер BOM видаляється один раз
+ * на початку файлу.</p>
+ */
+public class MappedIntFileParser {
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+    private static final int MAX_CHUNK_BYTES = 1 << 26;
+    private static final int BOUNDARY_PROBE_BYTES = 256;
+
+    private MappedIntFileParser() {
+    }
+
+    /**
+     * Розбирає файл у масив примітивних значень int.
+     *
+     * @param filePath Шлях до файлу з даними
+     * @return Масив значень int у порядку їх розташування у файлі
+     * @throws IOException Якщо файл не вдалося прочитати
+     * @throws NumberFormatException Якщо рядок файлу не є цілим числом int
+     */
+    public static int[] parse(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long dataStart = skipByteOrderMark(channel);
+            if (dataStart >= fileSize) {
+                return new int[0];
+            }
+            return parseRange(channel, dataStart, fileSize, DataFileHandler.estimateValueCount(filePath));
+        }
+    }
+
+    /**
+     * Розбирає частину файлу, що починається з початку рядка, паралельними фрагментами.
+     *
+     * @param channel Канал відкритого файлу
+     * @param from Початкова позиція в байтах включно
+     * @param to Кінцева позиція в байтах виключно
+     * @param estimatedTotal Очікувана кількість значень у частині файлу
+     * @return Масив значень int у порядку їх розташування у файлі
+     * @throws IOException Якщо файл не вдалося прочитати
+     * @throws NumberFormatException Якщо рядок файлу не є цілим числом int
+     */
+    static int[] parseRange(FileChannel channel, long from, long to, int estimatedTotal) throws IOException {
+        if (from >= to) {
+            return new int[0];
+        }
+
+        List<long[]> chunkRanges = splitIntoChunks(channel, from, to);
+        List<ChunkParseTask> parseTasks = new ArrayList<>(chunkRanges.size());
+        for (long[] range : chunkRanges) {
+            int expectedValues = (int) Math.min((double) estimatedTotal * (range[1] - range[0]) / (to - from) + 16,
+                    Integer.MAX_VALUE - 8);
+            parseTasks.add(new ChunkParseTask(channel, range[0], range[1], expectedValues));
+        }
+        try {
+            ForkJoinTask.invokeAll(parseTasks);
+        } catch (UncheckedIOException uncheckedException) {
+            throw uncheckedException.getCause();
+        }
+
+        return concatenate(parseTasks);
+    }
+
+    /**
+     * Розбирає файл послідовними вікнами, вирівняними за рядками, і передає значення кожного
+     * вікна споживачу. У пам'яті одночасно перебуває лише одне вікно, тому метод придатний
+     * для файлів, більших за доступну пам'ять.
+     *
+     * @param filePath Шлях до файлу з даними
+     * @param windowBytes Розмір вікна в байтах
+     * @param chunkConsumer Споживач значень вікна; масив перевикористовується після повернення,
+     *        а наступні вікна не читаються, якщо споживач повернув {@code false}
+     * @return Загальна кількість розібраних значень
+     * @throws IOException Якщо файл не вдалося прочитати
+     * @throws NumberFormatException Якщо рядок файлу не є цілим числом int
+     */
+    public static long parseInWindows(String filePath, int windowBytes, IntChunkConsumer chunkConsumer)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long windowStart = skipByteOrderMark(channel);
+            long windowSize = Math.max(windowBytes, BOUNDARY_PROBE_BYTES);
+            IntArrayBuffer windowValues = new IntArrayBuffer((int) Math.min(windowSize / 4, Integer.MAX_VALUE - 8));
+            ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_BYTES);
+            long totalCount = 0;
+
+            while (windowStart < fileSize) {
+                long windowEnd = windowStart + windowSize;
+                windowEnd = windowEnd >= fileSize ? fileSize : findNextLineStart(channel, windowEnd, fileSize, probe);
+                MappedByteBuffer mappedBytes = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                        windowEnd - windowStart);
+                windowValues.clear();
+                parseInto(mappedBytes, windowValues, windowStart);
+                if (windowValues.size() > 0) {
+                    totalCount += windowValues.size();
+                    if (!chunkConsumer.accept(windowValues.rawArray(), windowValues.size())) {
+                        break;
+                    }
+                }
+                windowStart = windowEnd;
+            }
+            return totalCount;
+        }
+    }
+
+    /**
+     * Повертає позицію першого байта даних, пропускаючи маркер UTF-8 BOM.
+     */
+    static long skipByteOrderMark(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(3);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+            // дочитуємо заголовок повністю
+        }
+        boolean hasBom = header.position() == 3
+                && (header.get(0) & 0xFF) == 0xEF
+                && (header.get(1) & 0xFF) == 0xBB
+                && (header.get(2) & 0xFF) == 0xBF;
+        return hasBom ? 3 : 0;
+    }
+
+    /**
+     * Ділить діапазон файлу на фрагменти, межі яких припадають на початок рядка.
+     */
+    private static List<long[]> splitIntoChunks(FileChannel channel, long dataStart, long fileSize) throws IOException {
+        long dataLength = fileSize - dataStart;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        long targetChunk = Math.max(MIN_CHUNK_BYTES, Math.min(MAX_CHUNK_BYTES, dataLength / (parallelism * 4L)));
+
+        List<long[]> chunkRanges = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_BYTES);
+        long chunkStart = dataStart;
+        while (chunkStart < fileSize) {
+            long chunkEnd = chunkStart + targetChunk;
+            if (chunkEnd >= fileSize) {
+                chunkEnd = fileSize;
+            } else {
+                chunkEnd = findNextLineStart(channel, chunkEnd, fileSize, probe);
+            }
+            chunkRanges.add(new long[] { chunkStart, chunkEnd });
+            chunkStart = chunkEnd;
+        }
+        return chunkRanges;
+    }
+
+    /**
+     * Знаходить позицію першого байта після найближчого символу нового рядка.
+     */
+    private static long findNextLineStart(FileChannel channel, long position, long fileSize, ByteBuffer probe)
+            throws IOException {
+        long searchPosition = position;
+        while (searchPosition < fileSize) {
+            probe.clear();
+            int readBytes = channel.read(probe, searchPosition);
+            if (readBytes <= 0) {
+                break;
+            }
+            for (int i = 0; i < readBytes; i++) {
+                if (probe.get(i) == '\n') {
+                    return searchPosition + i + 1;
+                }
+            }
+            searchPosition += readBytes;
+        }
+        return fileSize;
+    }
+
+    private static int[] concatenate(List<ChunkParseTask> parseTasks) {
+        long totalCount = 0;
+        for (ChunkParseTask task : parseTasks) {
+            totalCount += task.join().size();
+        }
+        if (totalCount > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Файл містить більше значень, ніж вміщує масив int: " + totalCount);
+        }
+
+        if (parseTasks.size() == 1) {
+            return parseTasks.get(0).join().drainToArray();
+        }
+
+        int[] resultArray = new int[(int) totalCount];
+        int offset = 0;
+        for (ChunkParseTask task : parseTasks) {
+            IntArrayBuffer chunkValues = task.join();
+            System.arraycopy(chunkValues.rawArray(), 0, resultArray, offset, chunkValues.size());
+            offset += chunkValues.size();
+        }
+        return resultArray;
+    }
+
+    /**
+     * Розбирає числа з відображеного в пам'ять буфера у заданий цільовий буфер.
+     *
+     * @param mappedBytes Буфер з байтами фрагмента файлу
+     * @param target Буфер для розібраних значень
+     * @param fileOffset Позиція фрагмента у файлі (для повідомлень про помилки)
+     */
+    static void parseInto(ByteBuffer mappedBytes, IntArrayBuffer target, long fileOffset) {
+        int limit = mappedBytes.limit();
+        int position = mappedBytes.position();
+
+        while (position < limit) {
+            byte current = mappedBytes.get(position);
+
+            // пропускаємо пробіли, табуляції та символи кінця рядка
+            if (current == '\n' || current == '\r' || current == ' ' || current == '\t') {
+                position++;
+                continue;
+            }
+
+            int lineStart = position;
+            boolean negative = false;
+            if (current == '-' || current == '+') {
+                negative = current == '-';
+                position++;
+            }
+
+            // накопичуємо від'ємне значення, щоб коректно обробити Integer.MIN_VALUE
+            long accumulated = 0;
+            int digitCount = 0;
+            while (position < limit) {
+                int digit = mappedBytes.get(position) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                accumulated = accumulated * 10 - digit;
+                if (accumulated < Integer.MIN_VALUE) {
+                    throw invalidNumber(mappedBytes, lineStart, fileOffset);
+                }
+                digitCount++;
+                position++;
+            }
+
+            // після числа допускаються лише пробіли до кінця рядка
+            while (position < limit) {
+                byte trailing = mappedBytes.get(position);
+                if (trailing == '\n') {
+                    break;
+                }
+                if (trailing != '\r' && trailing != ' ' && trailing != '\t') {
+                    throw invalidNumber(mappedBytes, lineStart, fileOffset);
+                }
+                position++;
+            }
+
+            if (digitCount == 0 || (!negative && accumulated == Integer.MIN_VALUE)) {
+                throw invalidNumber(mappedBytes, lineStart, fileOffset);
+            }
+            target.add(negative ? (int) accumulated : (int) -accumulated);
+        }
+    }
+
+    private static NumberFormatException invalidNumber(ByteBuffer mappedBytes, int lineStart, long fileOffset) {
+        int lineEnd = lineStart;
+        while (lineEnd < mappedBytes.limit() && mappedBytes.get(lineEnd) != '\n' && lineEnd - lineStart < 64) {
+            lineEnd++;
+        }
+        byte[] lineBytes = new byte[lineEnd - lineStart];
+        for (int i = 0; i < lineBytes.length; i++) {
+            lineBytes[i] = mappedBytes.get(lineStart + i);
+        }
+        return new NumberFormatException("Некоректне значення int на позиції " + (fileOffset + lineStart)
+                + ": \"" + new String(lineBytes, StandardCharsets.UTF_8).trim() + "\"");
+    }
+
+    /**
+     * Завдання fork-join, яке відображає та розбирає один фрагмент файлу.
+     */
+    private static final class ChunkParseTask extends RecursiveTask<IntArrayBuffer> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long startOffset;
+        private final long endOffset;
+        private final int expectedValues;
+
+        ChunkParseTask(FileChannel channel, long startOffset, long endOffset, int expectedValues) {
+            this.channel = channel;
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+            this.expectedValues = expectedValues;
+        }
+
+        @Override
+        protected IntArrayBuffer compute() {
+            IntArrayBuffer chunkValues = new IntArrayBuffer(expectedValues);
+            try {
+                MappedByteBuffer mappedBytes = channel.map(FileChannel.MapMode.READ_ONLY, startOffset,
+                        endOffset - startOffset);
+                parseInto(mappedBytes, chunkValues, startOffset);
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+            return chunkValues;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Клас OperationTimer накопичує вимірювання однієї операції однієї структури даних.
+ *
+ * <p>Крім гістограми тривалостей, таймер підсумовує кількість байтів, виділених потоком
+ * під час операції, а також кількість і тривалість збирань сміття, що відбулися за час
+ * її виконання. Запис вимірювання не створює об'єктів.</p>
+ */
+public class OperationTimer {
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong allocationSamples = new AtomicLong();
+    private final AtomicLong gcCount = new AtomicLong();
+    private final AtomicLong gcTimeMillis = new AtomicLong();
+
+    /**
+     * Записує одне вимірювання.
+     *
+     * @param durationNanos Тривалість операції в наносекундах
+     * @param allocated Кількість виділених байтів або від'ємне значення, якщо вимір недоступний
+     * @param collections Кількість збирань сміття під час операції
+     * @param collectionMillis Сумарна тривалість збирань сміття в мілісекундах
+     */
+    public void record(long durationNanos, long allocated, long collections, long collectionMillis) {
+        latency.record(durationNanos);
+        if (allocated >= 0) {
+            allocatedBytes.addAndGet(allocated);
+            allocationSamples.incrementAndGet();
+        }
+        if (collections > 0) {
+            gcCount.addAndGet(collections);
+            gcTimeMillis.addAndGet(collectionMillis);
+        }
+    }
+
+    /**
+     * @return Гістограма тривалостей у наносекундах
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    /**
+     * @return Середня кількість байтів, виділених за одну операцію, або -1, якщо вимір недоступний
+     */
+    public long averageAllocatedBytes() {
+        long samples = allocationSamples.get();
+        return samples == 0 ? -1 : allocatedBytes.get() / samples;
+    }
+
+    /**
+     * @return Кількість збирань сміття за час усіх вимірювань
+     */
+    public long gcCount() {
+        return gcCount.get();
+    }
+
+    /**
+     * @return Сумарна тривалість збирань сміття в мілісекундах
+     */
+    public long gcTimeMillis() {
+        return gcTimeMillis.get();
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Перелік OperationType визначає типи операцій, час яких відстежує {@link PerformanceTracker}.
+ *
+ * <p>Однакові типи операцій різних структур даних потрапляють в один рядок
+ * підсумкової таблиці, що дозволяє порівнювати List, Queue та Set між собою.
+ * Назва константи використовується у системних властивостях налаштування,
+ * наприклад {@code -Dtracker.iterations.ARRAY_SEARCH=100}.</p>
+ */
+public enum OperationType {
+    LOAD("завантаження з файлу"),
+    CONSTRUCTION("побудова структури"),
+    ARRAY_SORT("упорядкування масиву"),
+    ARRAY_SEARCH("пошук у масиві"),
+    ARRAY_MIN_MAX("мін/макс у масиві"),
+    COLLECTION_SORT("упорядкування колекції"),
+    COLLECTION_SEARCH("пошук у колекції"),
+    COLLECTION_MIN_MAX("мін/макс у колекції"),
+    STREAM_SEARCH("потоковий пошук у файлі"),
+    STREAM_MIN_MAX("потоковий мін/макс у файлі"),
+    RANGE_QUERY("діапазон і ранг"),
+    TOP_K("top-K / bottom-K"),
+    SET_OPERATION("операції над множинами");
+
+    private final String label;
+
+    OperationType(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return Назва типу операції для звітів
+     */
+    public String label() {
+        return label;
+    }
+}
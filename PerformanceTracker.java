@@ -1,7 +1,41 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
 /**
  * Клас PerformanceTracker відстежує продуктивність операцій з даними.
+ * 
+ * <p>Крім виведення тривалості окремої операції, клас є реєстром іменованих таймерів:
+ * для кожної структури даних (групи) і типу операції ({@link OperationType}) тривалості
+ * накопичуються в гістограмі {@link LatencyHistogram}. Кількість ітерацій розігріву та
+ * вимірювання задається системними властивостями {@code tracker.warmup} і
+ * {@code tracker.iterations} або окремо для типу операції, наприклад
+ * {@code tracker.iterations.ARRAY_SEARCH}.</p>
+ * 
+ * <p>Разом з тривалістю фіксується кількість байтів, виділених поточним потоком
+ * (через {@code com.sun.management.ThreadMXBean}), а також кількість і тривалість
+ * збирань сміття. Лічильники збирача спільні для всього процесу, тому при паралельному
+ * виконанні операцій збирання сміття може бути віднесене до кількох операцій одночасно.</p>
  */
 public class PerformanceTracker {
+    private static final Map<String, Map<OperationType, OperationTimer>> TIMERS = new ConcurrentHashMap<>();
+    private static final List<String> GROUP_ORDER = new CopyOnWriteArrayList<>();
+    private static final Map<String, Integer> GROUP_SECTIONS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Integer> CURRENT_SECTION = ThreadLocal.withInitial(() -> 0);
+    private static final Map<OperationType, int[]> RUN_SETTINGS = new ConcurrentHashMap<>();
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = allocationTrackingBean();
+    private static final GarbageCollectorMXBean[] GC_BEANS =
+        ManagementFactory.getGarbageCollectorMXBeans().toArray(new GarbageCollectorMXBean[0]);
+
     /**
      * Відображає тривалість виконання операції в наносекундах.
      * 
@@ -13,4 +47,315 @@ public class PerformanceTracker {
         long executionTime = (finishTime - startTime);
         System.out.println("\n========= Тривалість операції '" + operationName + "': " + executionTime + " нс =========");
     }
-}
\ No newline at end of file
+
+    /**
+     * Задає кількість ітерацій розігріву та вимірювання для типу операції.
+     * 
+     * @param operationType Тип операції.
+     * @param warmupIterations Кількість ітерацій розігріву, що не записуються.
+     * @param measuredIterations Кількість вимірюваних ітерацій (не менше 1).
+     */
+    public static void configure(OperationType operationType, int warmupIterations, int measuredIterations) {
+        RUN_SETTINGS.put(operationType, new int[] { Math.max(warmupIterations, 0), Math.max(measuredIterations, 1) });
+    }
+
+    /**
+     * Перевіряє, чи виконується операція заданого типу більше одного разу.
+     * 
+     * <p>Операціям, що змінюють дані, це дозволяє зберегти копію вихідних даних
+     * лише тоді, коли вона дійсно знадобиться для повторних ітерацій.</p>
+     * 
+     * @param operationType Тип операції.
+     * @return {@code true}, якщо загальна кількість ітерацій більша за одну.
+     */
+    public static boolean isRepeated(OperationType operationType) {
+        int[] settings = runSettings(operationType);
+        return settings[0] + settings[1] > 1;
+    }
+
+    /**
+     * Задає номер розділу звіту для груп, які вперше реєструє поточний потік.
+     * 
+     * <p>У підсумку групи впорядковуються за номером розділу, а в межах розділу — за порядком
+     * реєстрації, тому паралельні задачі не змінюють порядок стовпців таблиці.</p>
+     * 
+     * @param section Номер розділу (0 за замовчуванням).
+     */
+    public static void setGroupSection(int section) {
+        CURRENT_SECTION.set(section);
+    }
+
+    /**
+     * Повертає таймер для групи та типу операції, створюючи його за потреби.
+     * 
+     * @param group Назва структури даних (наприклад, "List").
+     * @param operationType Тип операції.
+     * @return Таймер операції.
+     */
+    public static OperationTimer timer(String group, OperationType operationType) {
+        Map<OperationType, OperationTimer> groupTimers = TIMERS.get(group);
+        if (groupTimers == null) {
+            groupTimers = TIMERS.computeIfAbsent(group, PerformanceTracker::registerGroup);
+        }
+        synchronized (groupTimers) {
+            return groupTimers.computeIfAbsent(operationType, type -> new OperationTimer());
+        }
+    }
+
+    /**
+     * Вимірює операцію, що повертає значення int, з урахуванням налаштованих ітерацій.
+     * 
+     * @param group Назва структури даних.
+     * @param operationType Тип операції.
+     * @param operationName Назва операції для виведення.
+     * @param action Вимірювана операція.
+     * @return Результат останнього виконання операції.
+     */
+    public static int measureInt(String group, OperationType operationType, String operationName, IntSupplier action) {
+        int[] result = new int[1];
+        runMeasured(group, operationType, operationName, null, () -> result[0] = action.getAsInt());
+        return result[0];
+    }
+
+    /**
+     * Вимірює операцію, що повертає об'єкт, з урахуванням налаштованих ітерацій.
+     * 
+     * @param <T> Тип результату.
+     * @param group Назва структури даних.
+     * @param operationType Тип операції.
+     * @param operationName Назва операції для виведення.
+     * @param action Вимірювана операція.
+     * @return Результат останнього виконання операції.
+     */
+    public static <T> T measure(String group, OperationType operationType, String operationName, Supplier<T> action) {
+        List<T> result = new ArrayList<>(1);
+        result.add(null);
+        runMeasured(group, operationType, operationName, null, () -> result.set(0, action.get()));
+        return result.get(0);
+    }
+
+    /**
+     * Вимірює операцію, що змінює дані, з підготовкою перед кожним виконанням.
+     * 
+     * <p>Підготовка (наприклад, відновлення невпорядкованого масиву) не входить у виміряний час.</p>
+     * 
+     * @param group Назва структури даних.
+     * @param operationType Тип операції.
+     * @param operationName Назва операції для виведення.
+     * @param setup Підготовка перед кожним виконанням, крім першого.
+     * @param action Вимірювана операція.
+     */
+    public static void measure(String group, OperationType operationType, String operationName,
+            Runnable setup, Runnable action) {
+        runMeasured(group, operationType, operationName, setup, action);
+    }
+
+    /**
+     * Виводить підсумкові таблиці: перцентилі кожного таймера та порівняння структур даних
+     * за медіанним часом для кожного типу операції.
+     */
+    public static void printSummary() {
+        List<String> groups = orderedGroups();
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        int groupWidth = 10;
+        for (String group : groups) {
+            groupWidth = Math.max(groupWidth, group.length());
+        }
+        String headerFormat = "%-" + groupWidth + "s %-26s %8s %12s %12s %12s %12s %12s %14s %12s%n";
+        String rowFormat = "%-" + groupWidth + "s %-26s %8d %12d %12d %12d %12d %12d %14s %12s%n";
+
+        System.out.println("\n📊 ПІДСУМОК ВИМІРЮВАНЬ (нс)");
+        System.out.printf(Locale.ROOT, headerFormat,
+                "Структура", "Операція", "к-сть", "p50", "p90", "p99", "p99.9", "max", "байт/оп", "GC (мс)");
+        for (String group : groups) {
+            Map<OperationType, OperationTimer> groupTimers = TIMERS.get(group);
+            Map<OperationType, OperationTimer> snapshot;
+            synchronized (groupTimers) {
+                snapshot = new EnumMap<>(groupTimers);
+            }
+            for (Map.Entry<OperationType, OperationTimer> entry : snapshot.entrySet()) {
+                OperationTimer operationTimer = entry.getValue();
+                LatencyHistogram histogram = operationTimer.latency();
+                long allocated = operationTimer.averageAllocatedBytes();
+                System.out.printf(Locale.ROOT, rowFormat,
+                        group, entry.getKey().label(), histogram.count(),
+                        histogram.percentile(50), histogram.percentile(90), histogram.percentile(99),
+                        histogram.percentile(99.9), histogram.max(),
+                        allocated < 0 ? "н/д" : Long.toString(allocated),
+                        operationTimer.gcCount() + " (" + operationTimer.gcTimeMillis() + ")");
+            }
+        }
+
+        System.out.println("\n📊 ПОРІВНЯННЯ СТРУКТУР ДАНИХ (медіана, нс)");
+        StringBuilder header = new StringBuilder(String.format(Locale.ROOT, "%-26s", "Операція"));
+        for (String group : groups) {
+            header.append(String.format(Locale.ROOT, " %" + columnWidth(group) + "s", group));
+        }
+        System.out.println(header);
+        for (OperationType operationType : OperationType.values()) {
+            StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "%-26s", operationType.label()));
+            boolean hasValues = false;
+            for (String group : groups) {
+                OperationTimer operationTimer = findTimer(group, operationType);
+                if (operationTimer == null || operationTimer.latency().count() == 0) {
+                    row.append(String.format(Locale.ROOT, " %" + columnWidth(group) + "s", "-"));
+                } else {
+                    row.append(String.format(Locale.ROOT, " %" + columnWidth(group) + "d",
+                            operationTimer.latency().percentile(50)));
+                    hasValues = true;
+                }
+            }
+            if (hasValues) {
+                System.out.println(row);
+            }
+        }
+    }
+
+    private static int columnWidth(String group) {
+        return Math.max(12, group.length());
+    }
+
+    /**
+     * Очищує всі таймери.
+     */
+    public static void reset() {
+        TIMERS.clear();
+        GROUP_ORDER.clear();
+        GROUP_SECTIONS.clear();
+    }
+
+    private static OperationTimer findTimer(String group, OperationType operationType) {
+        Map<OperationType, OperationTimer> groupTimers = TIMERS.get(group);
+        if (groupTimers == null) {
+            return null;
+        }
+        synchronized (groupTimers) {
+            return groupTimers.get(operationType);
+        }
+    }
+
+    private static Map<OperationType, OperationTimer> registerGroup(String group) {
+        GROUP_SECTIONS.put(group, CURRENT_SECTION.get());
+        GROUP_ORDER.add(group);
+        return new EnumMap<>(OperationType.class);
+    }
+
+    /**
+     * Повертає групи, впорядковані за номером розділу та порядком реєстрації.
+     */
+    private static List<String> orderedGroups() {
+        List<String> groups = new ArrayList<>(GROUP_ORDER);
+        groups.sort(Comparator.comparingInt(group -> GROUP_SECTIONS.getOrDefault(group, 0)));
+        return groups;
+    }
+
+    /**
+     * Повертає кількість ітерацій розігріву та вимірювання для типу операції.
+     */
+    private static int[] runSettings(OperationType operationType) {
+        int[] settings = RUN_SETTINGS.get(operationType);
+        if (settings == null) {
+            int warmupIterations = Integer.getInteger("tracker.warmup." + operationType.name(),
+                    Integer.getInteger("tracker.warmup", 0));
+            int measuredIterations = Integer.getInteger("tracker.iterations." + operationType.name(),
+                    Integer.getInteger("tracker.iterations", 1));
+            settings = new int[] { Math.max(warmupIterations, 0), Math.max(measuredIterations, 1) };
+            RUN_SETTINGS.putIfAbsent(operationType, settings);
+        }
+        return settings;
+    }
+
+    /**
+     * Виконує ітерації розігріву та вимірювання, записуючи тривалість, виділену пам'ять
+     * та збирання сміття кожної вимірюваної ітерації.
+     */
+    private static void runMeasured(String group, OperationType operationType, String operationName,
+            Runnable setup, Runnable action) {
+        OperationTimer operationTimer = timer(group, operationType);
+        int[] settings = runSettings(operationType);
+        int totalRuns = settings[0] + settings[1];
+
+        long lastDuration = 0;
+        long lastAllocated = -1;
+        long lastGcCount = 0;
+        for (int i = 0; i < totalRuns; i++) {
+            if (i > 0 && setup != null) {
+                setup.run();
+            }
+            long gcCountBefore = totalGcCount();
+            long gcTimeBefore = totalGcTimeMillis();
+            long allocatedBefore = currentThreadAllocatedBytes();
+            long timeStart = System.nanoTime();
+
+            action.run();
+
+            lastDuration = System.nanoTime() - timeStart;
+            long allocatedAfter = currentThreadAllocatedBytes();
+            lastAllocated = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+            lastGcCount = totalGcCount() - gcCountBefore;
+            if (i >= settings[0]) {
+                operationTimer.record(lastDuration, lastAllocated, lastGcCount, totalGcTimeMillis() - gcTimeBefore);
+            }
+        }
+
+        report(operationName, operationTimer, settings[1], lastDuration, lastAllocated, lastGcCount);
+    }
+
+    private static void report(String operationName, OperationTimer operationTimer, int measuredIterations,
+            long lastDuration, long lastAllocated, long lastGcCount) {
+        String memoryDetails = (lastAllocated < 0 ? "" : ", виділено " + lastAllocated + " байт")
+                + (lastGcCount > 0 ? ", GC: " + lastGcCount : "");
+        if (measuredIterations == 1) {
+            System.out.println("\n========= Тривалість операції '" + operationName + "': " + lastDuration + " нс"
+                    + memoryDetails + " =========");
+        } else {
+            LatencyHistogram histogram = operationTimer.latency();
+            long averageAllocated = operationTimer.averageAllocatedBytes();
+            System.out.println("\n========= Тривалість операції '" + operationName + "' (ітерацій: " + measuredIterations
+                    + "): p50 " + histogram.percentile(50) + " нс, p99 " + histogram.percentile(99)
+                    + " нс, max " + histogram.max() + " нс"
+                    + (averageAllocated < 0 ? "" : ", виділено в середньому " + averageAllocated + " байт")
+                    + (operationTimer.gcCount() > 0 ? ", GC: " + operationTimer.gcCount()
+                            + " (" + operationTimer.gcTimeMillis() + " мс)" : "")
+                    + " =========");
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationTrackingBean() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return allocationBean;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return THREAD_BEAN == null ? -1 : THREAD_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static long totalGcCount() {
+        long count = 0;
+        for (int i = 0; i < GC_BEANS.length; i++) {
+            count += Math.max(GC_BEANS[i].getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long totalGcTimeMillis() {
+        long time = 0;
+        for (int i = 0; i < GC_BEANS.length; i++) {
+            time += Math.max(GC_BEANS[i].getCollectionTime(), 0);
+        }
+        return time;
+    }
+}
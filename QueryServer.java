@@ -0,0 +1,336 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Клас QueryServer відповідає на запити до завантажених даних через локальний сокет.
+ *
+ * <p>Дані завантажуються та впорядковуються один раз, після чого сервер тримає готові
+ * структури: впорядкований масив int (пошук позиції та діапазони), {@link IntHashSet}
+ * (перевірка наявності) та {@link IntMinMaxHeap} (мінімум і максимум). Структури після
+ * побудови лише читаються, тому клієнти обслуговуються паралельно без синхронізації.</p>
+ *
+ * <p>Протокол рядковий: один запит — один рядок, одна відповідь — один рядок,
+ * що починається з {@code OK} або {@code ERR}.</p>
+ * <pre>
+ * FIND &lt;значення&gt;           OK &lt;позиція першого входження або -1&gt;
+ * CONTAINS &lt;значення&gt;       OK true|false
+ * MIN / MAX                  OK &lt;значення&gt;
+ * RANGE &lt;від&gt; &lt;до&gt;          OK &lt;кількість значень у діапазоні [від, до]&gt;
+ * RANK &lt;значення&gt;           OK &lt;кількість значень, менших за задане&gt;
+ * SELECT &lt;k&gt;                 OK &lt;k-те найменше значення, нумерація з нуля&gt;
+ * TOP &lt;k&gt; / BOTTOM &lt;k&gt;      OK &lt;k найбільших / найменших значень через пробіл&gt;
+ * STATS                      OK count=.. distinct=.. min=.. max=..
+ * PING                       OK PONG
+ * QUIT                       OK BYE (закриває з'єднання)
+ * SHUTDOWN                   OK BYE (зупиняє сервер)
+ * </pre>
+ *
+ * <p>Порт TCP доступний будь-якому локальному користувачеві, тому команда {@code SHUTDOWN}
+ * через TCP виконується лише з властивістю {@code server.allowShutdown=true}; через Unix-сокет,
+ * доступ до якого обмежують права файлу, вона дозволена завжди.</p>
+ */
+public class QueryServer {
+    private static final String UNIX_PREFIX = "unix:";
+    private static final int MAX_LISTED_VALUES = 10_000;
+
+    private final int[] sortedValues;
+    private final SortedRangeQueries rangeQueries;
+    private final IntHashSet valueSet;
+    private final IntMinMaxHeap valueHeap;
+    private final LongAdder requestCount = new LongAdder();
+    private final Set<SocketChannel> openClients = ConcurrentHashMap.newKeySet();
+    private volatile ServerSocketChannel serverChannel;
+    private volatile boolean shutdownAllowed;
+
+    /**
+     * Будує структури даних сервера.
+     *
+     * @param values Значення (масив впорядковується на місці)
+     * @param sourcePath Шлях до файлу, з якого завантажено дані
+     */
+    QueryServer(int[] values, String sourcePath) {
+        this.sortedValues = PerformanceTracker.measure("Сервер", OperationType.ARRAY_SORT, "упорядкування масиву int",
+                () -> {
+                    SortedResultCache.sortInPlace(values, sourcePath);
+                    return values;
+                });
+        this.rangeQueries = new SortedRangeQueries(sortedValues);
+        this.valueSet = PerformanceTracker.measure("Сервер", OperationType.CONSTRUCTION, "побудова IntHashSet",
+                () -> IntHashSet.of(values));
+        this.valueHeap = PerformanceTracker.measure("Сервер", OperationType.CONSTRUCTION, "побудова IntMinMaxHeap",
+                () -> IntMinMaxHeap.of(values, false));
+    }
+
+    /**
+     * Перетворює опис адреси на адресу сокета.
+     *
+     * @param address {@code unix:<шлях>} для Unix-сокета або номер порту TCP на локальному інтерфейсі
+     * @return Адреса сокета
+     * @throws NumberFormatException Якщо номер порту некоректний
+     */
+    static SocketAddress parseAddress(String address) {
+        if (address.startsWith(UNIX_PREFIX)) {
+            return UnixDomainSocketAddress.of(address.substring(UNIX_PREFIX.length()));
+        }
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+    }
+
+    /**
+     * Приймає з'єднання, доки не надійде команда {@code SHUTDOWN}.
+     *
+     * @param address Адреса для прослуховування
+     * @param workerThreads Найбільша кількість одночасно обслуговуваних клієнтів
+     * <p>Для Unix-сокета залишений попереднім запуском файл сокета видаляється, а будь-який
+     * інший наявний файл за цим шляхом не змінюється, і сервер не запускається. Після прив'язки
+     * сокет отримує права лише для власника, оскільки через нього дозволено {@code SHUTDOWN}.</p>
+     *
+     * @param address Адреса для прослуховування
+     * @param workerThreads Найбільша кількість одночасно обслуговуваних клієнтів
+     * @throws IOException Якщо сокет не вдалося відкрити або шлях Unix-сокета зайнятий іншим файлом
+     */
+    public void serve(SocketAddress address, int workerThreads) throws IOException {
+        boolean unixSocket = address instanceof UnixDomainSocketAddress;
+        Path socketPath = unixSocket ? ((UnixDomainSocketAddress) address).getPath() : null;
+        if (unixSocket && isSocketFile(socketPath)) {
+            Files.delete(socketPath);
+        } else if (unixSocket && Files.exists(socketPath, LinkOption.NOFOLLOW_LINKS)) {
+            throw new IOException("Шлях " + socketPath + " вже існує і не є сокетом, сервер не запущено.");
+        }
+        shutdownAllowed = unixSocket || Boolean.getBoolean("server.allowShutdown");
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(workerThreads, 1));
+        boolean bound = false;
+        try (ServerSocketChannel channel = unixSocket
+                ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open()) {
+            channel.bind(address);
+            bound = true;
+            if (unixSocket) {
+                restrictToOwner(socketPath);
+            }
+            serverChannel = channel;
+            System.out.println("🛰 Сервер запитів слухає " + describe(channel.getLocalAddress())
+                    + " (" + sortedValues.length + " значень)");
+
+            while (channel.isOpen()) {
+                SocketChannel client;
+                try {
+                    client = channel.accept();
+                } catch (ClosedChannelException closed) {
+                    // канал закрито командою SHUTDOWN під час або перед очікуванням з'єднання
+                    break;
+                }
+                workers.execute(() -> handleClient(client));
+            }
+        } finally {
+            // клієнти, що очікують запиту в readLine, інакше тримали б потоки пулу й не давали JVM завершитись
+            workers.shutdownNow();
+            for (SocketChannel client : openClients) {
+                closeQuietly(client);
+            }
+            try {
+                workers.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (unixSocket && bound && isSocketFile(socketPath)) {
+                Files.delete(socketPath);
+            }
+            System.out.println("Сервер зупинено, оброблено запитів: " + requestCount.sum());
+        }
+    }
+
+    /**
+     * Зупиняє прийом нових з'єднань.
+     */
+    public void shutdown() {
+        ServerSocketChannel channel = serverChannel;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ioException) {
+                ioException.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Формує відповідь на один рядок запиту.
+     *
+     * @param request Рядок запиту
+     * @return Рядок відповіді без символу нового рядка
+     */
+    String handle(String request) {
+        requestCount.increment();
+        String[] parts = request.trim().split("\\s+");
+        String command = parts[0].toUpperCase(Locale.ROOT);
+        try {
+            switch (command) {
+                case "FIND":
+                    requireArguments(parts, 1);
+                    return "OK " + IntArraySearch.firstPosition(sortedValues, Integer.parseInt(parts[1]));
+                case "CONTAINS":
+                    requireArguments(parts, 1);
+                    return "OK " + valueSet.contains(Integer.parseInt(parts[1]));
+                case "MIN":
+                    return valueHeap.isEmpty() ? "ERR даних немає" : "OK " + valueHeap.peekMin();
+                case "MAX":
+                    return valueHeap.isEmpty() ? "ERR даних немає" : "OK " + valueHeap.peekMax();
+                case "RANGE":
+                    requireArguments(parts, 2);
+                    return "OK " + rangeQueries.countInRange(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+                case "RANK":
+                    requireArguments(parts, 1);
+                    return "OK " + rangeQueries.rank(Integer.parseInt(parts[1]));
+                case "SELECT":
+                    requireArguments(parts, 1);
+                    return "OK " + rangeQueries.select(Integer.parseInt(parts[1]));
+                case "TOP":
+                    requireArguments(parts, 1);
+                    return "OK " + join(rangeQueries.topK(listedCount(parts[1])));
+                case "BOTTOM":
+                    requireArguments(parts, 1);
+                    return "OK " + join(rangeQueries.bottomK(listedCount(parts[1])));
+                case "STATS":
+                    return "OK count=" + sortedValues.length + " distinct=" + valueSet.size()
+                            + (valueHeap.isEmpty() ? "" : " min=" + valueHeap.peekMin() + " max=" + valueHeap.peekMax());
+                case "PING":
+                    return "OK PONG";
+                case "QUIT":
+                    requireArguments(parts, 0);
+                    return "OK BYE";
+                case "SHUTDOWN":
+                    requireArguments(parts, 0);
+                    return shutdownAllowed ? "OK BYE" : "ERR зупинка сервера через TCP вимкнена (server.allowShutdown)";
+                default:
+                    return "ERR невідома команда: " + parts[0];
+            }
+        } catch (NumberFormatException e) {
+            return "ERR некоректне число: " + e.getMessage();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    private void handleClient(SocketChannel client) {
+        openClients.add(client);
+        try (SocketChannel channel = client;
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+                BufferedWriter writer = new BufferedWriter(
+                        new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8))) {
+            for (String request = reader.readLine(); request != null; request = reader.readLine()) {
+                if (request.isBlank()) {
+                    continue;
+                }
+                String response = handle(request);
+                writer.write(response);
+                writer.write('\n');
+                // відповіді на запити, що вже надійшли пакетом, відправляємо разом
+                if (!reader.ready()) {
+                    writer.flush();
+                }
+
+                // команда діє лише тоді, коли handle її прийняв (без аргументів і з дозволом)
+                String command = request.trim().split("\\s+")[0].toUpperCase(Locale.ROOT);
+                boolean accepted = response.startsWith("OK");
+                if (accepted && command.equals("QUIT")) {
+                    break;
+                }
+                if (accepted && command.equals("SHUTDOWN")) {
+                    writer.flush();
+                    shutdown();
+                    break;
+                }
+            }
+            writer.flush();
+        } catch (IOException ioException) {
+            // клієнт від'єднався без команди QUIT або сервер зупинено
+        } finally {
+            openClients.remove(client);
+        }
+    }
+
+    /**
+     * @return {@code true}, якщо за шляхом знаходиться файл сокета (не звичайний файл, каталог чи посилання)
+     */
+    private static boolean isSocketFile(Path path) throws IOException {
+        if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+            return false;
+        }
+        return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther();
+    }
+
+    private static void restrictToOwner(Path socketPath) throws IOException {
+        try {
+            Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rwx------"));
+        } catch (UnsupportedOperationException e) {
+            System.out.println("⚠ Файлова система не підтримує права POSIX, доступ до " + socketPath
+                    + " визначається правами каталогу.");
+        }
+    }
+
+    private static void closeQuietly(SocketChannel client) {
+        try {
+            client.close();
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+
+    private static int listedCount(String argument) {
+        int count = Integer.parseInt(argument);
+        if (count < 0 || count > MAX_LISTED_VALUES) {
+            throw new IllegalArgumentException("кількість значень має бути від 0 до " + MAX_LISTED_VALUES);
+        }
+        return count;
+    }
+
+    private static String join(int[] values) {
+        StringBuilder joined = new StringBuilder();
+        for (int value : values) {
+            if (joined.length() > 0) {
+                joined.append(' ');
+            }
+            joined.append(value);
+        }
+        return joined.toString();
+    }
+
+    private static void requireArguments(String[] parts, int count) {
+        if (parts.length != count + 1) {
+            throw new IllegalArgumentException("команда " + parts[0] + " очікує аргументів: " + count);
+        }
+    }
+
+    private static String describe(SocketAddress address) {
+        return address instanceof UnixDomainSocketAddress
+                ? UNIX_PREFIX + ((UnixDomainSocketAddress) address).getPath()
+                : address.toString();
+    }
+}
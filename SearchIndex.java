@@ -0,0 +1,74 @@
+import java.util.Locale;
+
+/**
+ * Інтерфейс SearchIndex описує індекс для пошуку значень у впорядкованому масиві int.
+ *
+ * <p>Індекс будується один раз з впорядкованого масиву і надалі лише читається.
+ * Результат пошуку має ту саму семантику, що й {@link java.util.Arrays#binarySearch(int[], int)}:
+ * позиція знайденого значення у впорядкованому масиві або {@code -(точка вставки) - 1}.
+ * Для повторюваних значень повертається позиція першого входження.</p>
+ *
+ * <p>Реалізацію обирає системна властивість {@code search.index}: {@code binary}
+ * (за замовчуванням), {@code eytzinger}, {@code stree} або {@code learned}.</p>
+ */
+public interface SearchIndex {
+    /**
+     * Назва реалізації за замовчуванням, що відповідає звичайному двійковому пошуку.
+     */
+    String BINARY = "binary";
+
+    /**
+     * Шукає значення в індексі.
+     *
+     * @param value Значення для пошуку
+     * @return Позиція у впорядкованому масиві або {@code -(точка вставки) - 1}
+     */
+    int search(int value);
+
+    /**
+     * @return Назва реалізації для звітів
+     */
+    String name();
+
+    /**
+     * @return Приблизний обсяг пам'яті індексу в байтах
+     */
+    long memoryFootprintBytes();
+
+    /**
+     * @return Додаткові відомості про індекс для звітів або порожній рядок
+     */
+    default String statistics() {
+        return "";
+    }
+
+    /**
+     * @return Назва реалізації, заданої системною властивістю {@code search.index}
+     */
+    static String configuredKind() {
+        return System.getProperty("search.index", BINARY).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Будує індекс заданого типу.
+     *
+     * @param kind Назва реалізації
+     * @param sortedValues Впорядкований за зростанням масив
+     * @return Індекс пошуку
+     * @throws IllegalArgumentException Якщо назва реалізації невідома
+     */
+    static SearchIndex build(String kind, int[] sortedValues) {
+        switch (kind) {
+            case BINARY:
+                return new BinarySearchIndex(sortedValues);
+            case "eytzinger":
+                return new EytzingerSearchIndex(sortedValues);
+            case "stree":
+                return new StaticBTreeSearchIndex(sortedValues);
+            case "learned":
+                return new LearnedSearchIndex(sortedValues);
+            default:
+                throw new IllegalArgumentException("Невідомий індекс пошуку: " + kind);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Перелік SortEngine визначає алгоритм, яким упорядковуються масиви int.
+ *
+ * <p>Алгоритм задається системною властивістю {@code sort.engine}: {@code jdk},
+ * {@code parallel}, {@code radix}, {@code parallel_radix} або {@code auto}
+ * (за замовчуванням). У режимі {@code auto} малі масиви сортуються {@link Arrays#sort(int[])},
+ * середні — порозрядно, а великі на багатоядерних системах — паралельним порозрядним сортуванням.</p>
+ */
+public enum SortEngine {
+    JDK("Arrays.sort"),
+    PARALLEL("Arrays.parallelSort"),
+    RADIX("LSD radix"),
+    PARALLEL_RADIX("паралельний MSD radix"),
+    AUTO("автовибір");
+
+    private static final int RADIX_THRESHOLD = 1 << 12;
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    private final String label;
+
+    SortEngine(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return Назва алгоритму для звітів
+     */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * @return Алгоритм, заданий системною властивістю {@code sort.engine}
+     */
+    public static SortEngine fromSystemProperty() {
+        String value = System.getProperty("sort.engine", "auto");
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Невідомий алгоритм сортування '" + value + "', використано auto.");
+            return AUTO;
+        }
+    }
+
+    /**
+     * Визначає конкретний алгоритм для масиву заданої довжини.
+     *
+     * @param length Довжина масиву
+     * @return Алгоритм; для {@link #AUTO} — обраний за розміром даних та кількістю ядер
+     */
+    public SortEngine resolve(int length) {
+        if (this != AUTO) {
+            return this;
+        }
+        if (length < RADIX_THRESHOLD) {
+            return JDK;
+        }
+        if (length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return PARALLEL_RADIX;
+        }
+        return RADIX;
+    }
+
+    /**
+     * Перевіряє, чи виділяє алгоритм проміжний масив розміром із дані.
+     *
+     * @param length Кількість значень для впорядкування
+     * @return {@code true}, якщо крім самих даних потрібен ще такий самий обсяг пам'яті
+     */
+    public boolean needsScratchBuffer(int length) {
+        return resolve(length) != JDK;
+    }
+
+    /**
+     * Упорядковує масив за зростанням.
+     *
+     * @param array Масив для впорядкування
+     */
+    public void sort(int[] array) {
+        switch (resolve(array.length)) {
+            case PARALLEL:
+                Arrays.parallelSort(array);
+                break;
+            case RADIX:
+                IntRadixSort.sort(array);
+                break;
+            case PARALLEL_RADIX:
+                IntRadixSort.parallelSort(array);
+                break;
+            default:
+                Arrays.sort(array);
+                break;
+        }
+    }
+
+    /**
+     * Упорядковує діапазон масиву за зростанням. Паралельне порозрядне сортування
+     * застосовується лише до всього масиву, для частини масиву виконується послідовне.
+     *
+     * @param array Масив для впорядкування
+     * @param from Початкова позиція включно
+     * @param to Кінцева позиція виключно
+     */
+    public void sort(int[] array, int from, int to) {
+        if (from == 0 && to == array.length) {
+            sort(array);
+            return;
+        }
+        switch (resolve(to - from)) {
+            case PARALLEL:
+                Arrays.parallelSort(array, from, to);
+                break;
+            case RADIX:
+            case PARALLEL_RADIX:
+                IntRadixSort.sort(array, from, to);
+                break;
+            default:
+                Arrays.sort(array, from, to);
+                break;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+import java.util.Arrays;
+
+/**
+ * Клас SortedRangeQueries відповідає на діапазонні та порядкові запити до впорядкованого масиву.
+ *
+ * <p>Кількість значень у діапазоні та ранг обчислюються двома двійковими пошуками за O(log n),
+ * вибір k-го найменшого значення — за O(1), а вилучення діапазону чи k крайніх значень
+ * копіює лише потрібну частину масиву.</p>
+ */
+public class SortedRangeQueries {
+    private static final int DEFAULT_K = 10;
+    private static final int MAX_K = 1_000_000;
+    private static final int CONFIGURED_K = parseConfiguredK();
+
+    private final int[] sortedValues;
+
+    /**
+     * @param sortedValues Впорядкований за зростанням масив даних (не копіюється)
+     */
+    SortedRangeQueries(int[] sortedValues) {
+        this.sortedValues = sortedValues;
+    }
+
+    /**
+     * Повертає кількість крайніх значень для запитів top-K і bottom-K, задану властивістю
+     * {@code query.k} (від 1 до 1 000 000, за замовчуванням 10). Властивість читається один раз.
+     *
+     * @return Кількість крайніх значень
+     */
+    static int configuredK() {
+        return CONFIGURED_K;
+    }
+
+    private static int parseConfiguredK() {
+        String value = System.getProperty("query.k");
+        if (value == null) {
+            return DEFAULT_K;
+        }
+        try {
+            int k = Integer.parseInt(value.trim());
+            if (k >= 1 && k <= MAX_K) {
+                return k;
+            }
+        } catch (NumberFormatException e) {
+            // некоректне число обробляється так само, як значення поза межами
+        }
+        System.out.println("Невідоме значення query.k '" + value + "', використано " + DEFAULT_K + ".");
+        return DEFAULT_K;
+    }
+
+    /**
+     * Повертає кількість значень у діапазоні [from, to].
+     *
+     * @param from Нижня межа включно
+     * @param to Верхня межа включно
+     * @return Кількість значень у діапазоні
+     */
+    public int countInRange(int from, int to) {
+        return rangeEnd(from, to) - rangeStart(from, to);
+    }
+
+    /**
+     * Повертає значення з діапазону [from, to] у порядку зростання.
+     *
+     * @param from Нижня межа включно
+     * @param to Верхня межа включно
+     * @return Новий масив значень діапазону
+     */
+    public int[] valuesInRange(int from, int to) {
+        return Arrays.copyOfRange(sortedValues, rangeStart(from, to), rangeEnd(from, to));
+    }
+
+    /**
+     * Повертає ранг значення — кількість елементів, менших за нього.
+     * Для присутнього значення це позиція його першого входження.
+     *
+     * @param value Значення
+     * @return Ранг від 0 до кількості елементів включно
+     */
+    public int rank(int value) {
+        return IntArraySearch.lowerBound(sortedValues, value);
+    }
+
+    /**
+     * Повертає k-те найменше значення (нумерація з нуля).
+     *
+     * @param k Порядковий номер
+     * @return Значення з рангом k
+     * @throws IndexOutOfBoundsException Якщо k поза межами масиву
+     */
+    public int select(int k) {
+        if (k < 0 || k >= sortedValues.length) {
+            throw new IndexOutOfBoundsException("Порядковий номер " + k + " поза межами 0.." + (sortedValues.length - 1));
+        }
+        return sortedValues[k];
+    }
+
+    /**
+     * Повертає k найбільших значень у порядку спадання.
+     *
+     * @param k Кількість значень (обмежується розміром масиву)
+     * @return Новий масив значень
+     */
+    public int[] topK(int k) {
+        int count = Math.min(Math.max(k, 0), sortedValues.length);
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = sortedValues[sortedValues.length - 1 - i];
+        }
+        return result;
+    }
+
+    /**
+     * Повертає k найменших значень у порядку зростання.
+     *
+     * @param k Кількість значень (обмежується розміром масиву)
+     * @return Новий масив значень
+     */
+    public int[] bottomK(int k) {
+        return Arrays.copyOf(sortedValues, Math.min(Math.max(k, 0), sortedValues.length));
+    }
+
+    /**
+     * @return Кількість значень даних
+     */
+    public int size() {
+        return sortedValues.length;
+    }
+
+    private int rangeStart(int from, int to) {
+        return from > to ? 0 : IntArraySearch.lowerBound(sortedValues, from);
+    }
+
+    private int rangeEnd(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        return to == Integer.MAX_VALUE ? sortedValues.length : IntArraySearch.lowerBound(sortedValues, to + 1);
+    }
+}
@@ -0,0 +1,428 @@
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Клас SortedResultCache запобігає повторному сортуванню та повторному запису одних і тих самих даних.
+ *
+ * <p>Результат сортування зберігається за ключем, що ідентифікує вихідний файл: шлях, розмір,
+ * час зміни та хеш вмісту. Хеш не залежить від порядку елементів, тому впорядкований
+ * і невпорядкований масиви з тих самих даних мають однаковий ключ. За один запуск дані
+ * сортуються щонайбільше один раз і записуються у файл {@code .sorted} щонайбільше один раз;
+ * між запусками використовується актуальний двійковий знімок {@code .sorted.bin}.</p>
+ *
+ * <p>Кеш зберігає лише результат для останніх оброблених даних, а впорядковані значення
+ * тримає через {@link SoftReference}: у довготривалих режимах (сервер, інкрементна обробка)
+ * копія даних не накопичується і може бути звільнена збирачем сміття при нестачі пам'яті.</p>
+ *
+ * <p>Якщо сортування таки потрібне, воно виконується над значеннями int алгоритмом,
+ * заданим властивістю {@code sort.engine} (див. {@link SortEngine}).</p>
+ */
+public class SortedResultCache {
+    private static final AtomicReference<CacheEntry> LAST_ENTRY = new AtomicReference<>();
+    private static final SortEngine SORT_ENGINE = SortEngine.fromSystemProperty();
+    private static volatile boolean concurrentTiming;
+
+    private SortedResultCache() {
+    }
+
+    /**
+     * Копіює в масив Integer раніше отриманий впорядкований результат, не сортуючи.
+     *
+     * <p>Копіювання з кешу набагато швидше за сортування, тому процесори не записують
+     * його тривалість як {@link OperationType#ARRAY_SORT}.</p>
+     *
+     * @param array Масив для впорядкування
+     * @param sourcePath Шлях до файлу, з якого завантажено дані
+     * @return {@code true}, якщо масив уже впорядкований або результат знайдено; {@code false},
+     *         якщо масив потрібно сортувати (вміст масиву не змінено)
+     */
+    public static boolean copyCached(Integer[] array, String sourcePath) {
+        if (isSorted(array)) {
+            return true;
+        }
+        CacheEntry entry = entryFor(SourceKey.of(sourcePath, array.length, boxedHash(array)));
+        int[] sortedValues;
+        synchronized (entry) {
+            sortedValues = entry.sortedValues(sourcePath);
+        }
+        if (sortedValues == null) {
+            return false;
+        }
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sortedValues[i];
+        }
+        return true;
+    }
+
+    /**
+     * Копіює в масив int раніше отриманий впорядкований результат, не сортуючи.
+     *
+     * @param array Масив для впорядкування
+     * @param sourcePath Шлях до файлу, з якого завантажено дані
+     * @return {@code true}, якщо масив уже впорядкований або результат знайдено; {@code false},
+     *         якщо масив потрібно сортувати (вміст масиву не змінено)
+     */
+    public static boolean copyCached(int[] array, String sourcePath) {
+        if (isSorted(array)) {
+            return true;
+        }
+        CacheEntry entry = entryFor(SourceKey.of(sourcePath, array.length, SourceKey.contentHash(array)));
+        int[] sortedValues;
+        synchronized (entry) {
+            sortedValues = entry.sortedValues(sourcePath);
+        }
+        if (sortedValues == null) {
+            return false;
+        }
+        System.arraycopy(sortedValues, 0, array, 0, array.length);
+        return true;
+    }
+
+    /**
+     * Упорядковує масив Integer, використовуючи раніше отриманий результат, якщо він є.
+     *
+     * @param array Масив для впорядкування
+     * @param sourcePath Шлях до файлу, з якого завантажено дані
+     * @return {@code true}, якщо масив довелося сортувати; {@code false}, якщо використано кеш
+     */
+    public static boolean sortInPlace(Integer[] array, String sourcePath) {
+        if (isSorted(array)) {
+            return false;
+        }
+
+        CacheEntry entry = entryFor(SourceKey.of(sourcePath, array.length, boxedHash(array)));
+        int[] sortedValues;
+        synchronized (entry) {
+            sortedValues = entry.sortedValues(sourcePath);
+            if (sortedValues == null) {
+                int[] unboxedValues = new int[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    unboxedValues[i] = array[i];
+                }
+                SORT_ENGINE.sort(unboxedValues);
+                entry.keepSortedValues(unboxedValues);
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = unboxedValues[i];
+                }
+                return true;
+            }
+        }
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sortedValues[i];
+        }
+        return false;
+    }
+
+    /**
+     * Упорядковує масив int, використовуючи раніше отриманий результат, якщо він є.
+     *
+     * @param array Масив для впорядкування
+     * @param sourcePath Шлях до файлу, з якого завантажено дані
+     * @return {@code true}, якщо масив довелося сортувати; {@code false}, якщо використано кеш
+     */
+    public static boolean sortInPlace(int[] array, String sourcePath) {
+        if (isSorted(array)) {
+            return false;
+        }
+
+        CacheEntry entry = entryFor(SourceKey.of(sourcePath, array.length, SourceKey.contentHash(array)));
+        int[] sortedValues;
+        synchronized (entry) {
+            sortedValues = entry.sortedValues(sourcePath);
+            if (sortedValues == null) {
+                SORT_ENGINE.sort(array);
+                entry.keepSortedValues(array.clone());
+                return true;
+            }
+        }
+
+        System.arraycopy(sortedValues, 0, array, 0, array.length);
+        return false;
+    }
+
+    /**
+     * Записує впорядкований масив у файл {@code .sorted} та знімок {@code .sorted.bin},
+     * якщо ці дані ще не записувалися і файли на диску не є актуальними.
+     *
+     * @param sortedArray Упорядкований масив Integer
+     * @param sourcePath Шлях до вихідного файлу з даними
+     * @return {@code true}, якщо файли було записано
+     */
+    public static boolean writeSortedOnce(Integer[] sortedArray, String sourcePath) {
+        SourceKey key = SourceKey.of(sourcePath, sortedArray.length, boxedHash(sortedArray));
+        return writeSortedOnce(key, sourcePath, () -> {
+            int[] unboxedValues = new int[sortedArray.length];
+            for (int i = 0; i < sortedArray.length; i++) {
+                unboxedValues[i] = sortedArray[i];
+            }
+            return unboxedValues;
+        });
+    }
+
+    /**
+     * Записує впорядкований масив у файл {@code .sorted} та знімок {@code .sorted.bin},
+     * якщо ці дані ще не записувалися і файли на диску не є актуальними.
+     *
+     * @param sortedArray Упорядкований масив int
+     * @param sourcePath Шлях до вихідного файлу з даними
+     * @return {@code true}, якщо файли було записано
+     */
+    public static boolean writeSortedOnce(int[] sortedArray, String sourcePath) {
+        SourceKey key = SourceKey.of(sourcePath, sortedArray.length, SourceKey.contentHash(sortedArray));
+        return writeSortedOnce(key, sourcePath, () -> sortedArray);
+    }
+
+    /**
+     * Записує файли результату, отримуючи масив int лише тоді, коли запис дійсно потрібен.
+     */
+    private static boolean writeSortedOnce(SourceKey key, String sourcePath, Supplier<int[]> sortedValues) {
+        CacheEntry entry = entryFor(key);
+        synchronized (entry) {
+            if (entry.writtenToDisk) {
+                return false;
+            }
+            entry.writtenToDisk = true;
+            if (isDiskOutputFresh(sourcePath, key.count)) {
+                return false;
+            }
+            int[] sortedArray = sortedValues.get();
+            DataFileHandler.writeIntArrayToFile(sortedArray, sourcePath + ".sorted");
+            DataFileHandler.writeSortedSnapshot(sortedArray, sourcePath);
+            return true;
+        }
+    }
+
+    /**
+     * Перевіряє, чи слід вимірювати сортування без кешу.
+     *
+     * <p>Якщо сортування вимірюється кілька разів, усі ітерації після першої знайшли б
+     * результат у кеші й вимірювали б копіювання масиву замість сортування. При паралельному
+     * виконанні процесорів сортував би лише той, хто першим дістався кешу, а решта копіювала б
+     * його результат, тому порівняння залежало б від порядку потоків.</p>
+     *
+     * @return {@code true}, якщо процесори мають сортувати власні копії через {@link #sortUncached(int[])}
+     */
+    public static boolean isBypassedForTiming() {
+        return concurrentTiming || PerformanceTracker.isRepeated(OperationType.ARRAY_SORT);
+    }
+
+    /**
+     * Вмикає або вимикає сортування без кешу на час паралельного виконання процесорів.
+     *
+     * @param enabled {@code true}, поки процесори виконуються паралельно
+     */
+    static void setConcurrentTiming(boolean enabled) {
+        concurrentTiming = enabled;
+    }
+
+    /**
+     * Упорядковує масив Integer алгоритмом {@code sort.engine}, не звертаючись до кешу.
+     *
+     * @param array Масив для впорядкування
+     */
+    public static void sortUncached(Integer[] array) {
+        int[] unboxedValues = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            unboxedValues[i] = array[i];
+        }
+        SORT_ENGINE.sort(unboxedValues);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = unboxedValues[i];
+        }
+    }
+
+    /**
+     * Упорядковує масив int алгоритмом {@code sort.engine}, не звертаючись до кешу.
+     *
+     * @param array Масив для впорядкування
+     */
+    public static void sortUncached(int[] array) {
+        SORT_ENGINE.sort(array);
+    }
+
+    /**
+     * @return Алгоритм, яким сортуються дані при відсутності збереженого результату
+     */
+    public static SortEngine sortEngine() {
+        return SORT_ENGINE;
+    }
+
+    /**
+     * Повертає запис для ключа; запис для інших даних замінюється новим.
+     */
+    private static CacheEntry entryFor(SourceKey key) {
+        CacheEntry entry = LAST_ENTRY.get();
+        while (entry == null || !entry.key.equals(key)) {
+            CacheEntry newEntry = new CacheEntry(key);
+            if (LAST_ENTRY.compareAndSet(entry, newEntry)) {
+                return newEntry;
+            }
+            entry = LAST_ENTRY.get();
+        }
+        return entry;
+    }
+
+    /**
+     * Завантажує впорядкований знімок з диска, якщо він відповідає ключу.
+     */
+    private static int[] loadSortedFromDisk(String sourcePath, SourceKey key) {
+        int[] sortedValues = DataFileHandler.loadSortedSnapshot(sourcePath);
+        if (sortedValues == null || sortedValues.length != key.count
+                || SourceKey.contentHash(sortedValues) != key.contentHash) {
+            return null;
+        }
+        return sortedValues;
+    }
+
+    /**
+     * Перевіряє, чи актуальні файли {@code .sorted} та {@code .sorted.bin} відносно вихідного файлу.
+     */
+    private static boolean isDiskOutputFresh(String sourcePath, int expectedCount) {
+        String snapshotPath = sourcePath + ".sorted" + BinarySnapshotFile.SNAPSHOT_SUFFIX;
+        BinarySnapshotFile.Header header = BinarySnapshotFile.readHeader(snapshotPath);
+        if (header == null || !header.sorted || header.count != expectedCount
+                || !BinarySnapshotFile.isFresh(snapshotPath, sourcePath)) {
+            return false;
+        }
+        try {
+            Path sortedText = Path.of(sourcePath + ".sorted");
+            return Files.isRegularFile(sortedText) && Files.size(sortedText) > 0
+                    && Files.getLastModifiedTime(sortedText).compareTo(Files.getLastModifiedTime(Path.of(sourcePath))) >= 0;
+        } catch (IOException ioException) {
+            return false;
+        }
+    }
+
+    /**
+     * Обчислює хеш вмісту масиву Integer без створення копії int.
+     */
+    private static long boxedHash(Integer[] values) {
+        long hash = 0;
+        for (Integer value : values) {
+            hash += SourceKey.mix(value);
+        }
+        return hash;
+    }
+
+    private static boolean isSorted(Integer[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSorted(int[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ключ кешу, що ідентифікує вихідний файл та вміст завантажених з нього даних.
+     */
+    private static final class SourceKey {
+        final String path;
+        final long size;
+        final long modified;
+        final int count;
+        final long contentHash;
+
+        private SourceKey(String path, long size, long modified, int count, long contentHash) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+            this.count = count;
+            this.contentHash = contentHash;
+        }
+
+        static SourceKey of(String sourcePath, int count, long contentHash) {
+            Path source = Path.of(sourcePath).toAbsolutePath().normalize();
+            long size = -1;
+            long modified = -1;
+            try {
+                size = Files.size(source);
+                modified = Files.getLastModifiedTime(source).toMillis();
+            } catch (IOException ioException) {
+                // файл недоступний - ключ визначається лише вмістом
+            }
+            return new SourceKey(source.toString(), size, modified, count, contentHash);
+        }
+
+        /**
+         * Обчислює хеш вмісту, що не залежить від порядку елементів.
+         */
+        static long contentHash(int[] values) {
+            long hash = 0;
+            for (int value : values) {
+                hash += mix(value);
+            }
+            return hash;
+        }
+
+        /**
+         * Перемішування SplitMix64, що робить суму чутливою до кожного значення.
+         */
+        static long mix(int value) {
+            long mixed = (value + 0x9E3779B97F4A7C15L) * 0xBF58476D1CE4E5B9L;
+            mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+            return mixed ^ (mixed >>> 31);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof SourceKey)) {
+                return false;
+            }
+            SourceKey key = (SourceKey) other;
+            return size == key.size && modified == key.modified && count == key.count
+                    && contentHash == key.contentHash && path.equals(key.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return path.hashCode() * 31 + Long.hashCode(contentHash);
+        }
+    }
+
+    /**
+     * Запис кешу: впорядковані значення та ознака запису на диск.
+     * Поля змінюються лише під блокуванням запису.
+     */
+    private static final class CacheEntry {
+        final SourceKey key;
+        SoftReference<int[]> sortedValues;
+        boolean writtenToDisk;
+
+        CacheEntry(SourceKey key) {
+            this.key = key;
+        }
+
+        /**
+         * @return Впорядковані значення з пам'яті або з актуального знімка на диску; {@code null}, якщо їх немає
+         */
+        int[] sortedValues(String sourcePath) {
+            int[] values = sortedValues == null ? null : sortedValues.get();
+            if (values == null) {
+                values = loadSortedFromDisk(sourcePath, key);
+                if (values != null) {
+                    keepSortedValues(values);
+                }
+            }
+            return values;
+        }
+
+        void keepSortedValues(int[] values) {
+            sortedValues = new SoftReference<>(values);
+        }
+    }
+}
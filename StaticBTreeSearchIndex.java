@@ -0,0 +1,84 @@
+/**
+ * Клас StaticBTreeSearchIndex є статичним B-деревом з вузлами розміром у рядок кешу.
+ *
+ * <p>Кожен вузол містить 16 ключів int (64 байти), а нащадки вузла {@code k} розташовані
+ * неявно на позиціях {@code k * 17 + i + 1}, тому дерево не зберігає посилань. Пошук
+ * відвідує один рядок кешу на рівень і визначає гілку підрахунком ключів, менших за значення,
+ * без умовних переходів. Порожні позиції останніх вузлів заповнюються {@link Integer#MAX_VALUE}.</p>
+ */
+public class StaticBTreeSearchIndex implements SearchIndex {
+    private static final int NODE_KEYS = 16;
+
+    private final int[] keys;
+    private final int[] positions;
+    private final int nodeCount;
+    private final int size;
+
+    /**
+     * @param sortedValues Впорядкований за зростанням масив
+     */
+    StaticBTreeSearchIndex(int[] sortedValues) {
+        this.size = sortedValues.length;
+        this.nodeCount = (size + NODE_KEYS - 1) / NODE_KEYS;
+        this.keys = new int[nodeCount * NODE_KEYS];
+        this.positions = new int[nodeCount * NODE_KEYS];
+        fill(sortedValues, 0, 0);
+    }
+
+    /**
+     * Заповнює вузол та його піддерева в порядку симетричного обходу.
+     *
+     * @return Наступна позиція у впорядкованому масиві
+     */
+    private int fill(int[] sortedValues, int node, int sortedIndex) {
+        if (node >= nodeCount) {
+            return sortedIndex;
+        }
+        for (int i = 0; i < NODE_KEYS; i++) {
+            sortedIndex = fill(sortedValues, child(node, i), sortedIndex);
+            int slot = node * NODE_KEYS + i;
+            if (sortedIndex < size) {
+                keys[slot] = sortedValues[sortedIndex];
+                positions[slot] = sortedIndex++;
+            } else {
+                keys[slot] = Integer.MAX_VALUE;
+                positions[slot] = size;
+            }
+        }
+        return fill(sortedValues, child(node, NODE_KEYS), sortedIndex);
+    }
+
+    private static int child(int node, int branch) {
+        return node * (NODE_KEYS + 1) + branch + 1;
+    }
+
+    @Override
+    public int search(int value) {
+        int position = size;
+        int candidateKey = 0;
+        int node = 0;
+        while (node < nodeCount) {
+            int base = node * NODE_KEYS;
+            int branch = 0;
+            for (int i = 0; i < NODE_KEYS; i++) {
+                branch += keys[base + i] < value ? 1 : 0;
+            }
+            if (branch < NODE_KEYS) {
+                position = positions[base + branch];
+                candidateKey = keys[base + branch];
+            }
+            node = child(node, branch);
+        }
+        return position < size && candidateKey == value ? position : -position - 1;
+    }
+
+    @Override
+    public String name() {
+        return "stree";
+    }
+
+    @Override
+    public long memoryFootprintBytes() {
+        return 2L * (16 + (long) keys.length * Integer.BYTES) + 32;
+    }
+}
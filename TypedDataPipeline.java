@@ -0,0 +1,218 @@
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * Клас TypedDataPipeline виконує завантаження, впорядкування, пошук та визначення граничних
+ * значень для файлу даних будь-якого типу з каталогу {@code list/}.
+ *
+ * <p>Значення типів, що мають кодек {@link ValueCodec}, перетворюються на ключі long один раз
+ * під час завантаження, після чого всі операції виконуються над масивом long без створення
+ * об'єктів: дати та час впорядковуються і шукаються як числа. Рядки обробляються як масив
+ * {@link String} з природним порядком. Тривалість операцій записується в {@link PerformanceTracker}
+ * у групу з назвою типу.</p>
+ *
+ * <p>Впорядковані значення записуються у файл з суфіксом {@code .typed.sorted}, щоб не
+ * перезаписувати файли {@code .sorted}, які створюють процесори колекцій у власному форматі.</p>
+ */
+public class TypedDataPipeline {
+    private static final String DATA_DIRECTORY = "list";
+    private static final String DATA_SUFFIX = ".data";
+    private static final String SORTED_SUFFIX = ".typed.sorted";
+
+    private final String filePath;
+    private final String typeName;
+    private final ValueCodec codec;
+
+    /**
+     * @param filePath Шлях до файлу даних; тип визначається за назвою файлу
+     */
+    TypedDataPipeline(String filePath) {
+        this.filePath = filePath;
+        this.typeName = ValueCodec.typeNameOf(filePath);
+        this.codec = ValueCodec.forFile(filePath);
+    }
+
+    /**
+     * @return Шляхи до всіх файлів {@code *.data} каталогу даних у порядку назв
+     */
+    static String[] dataFiles() {
+        String[] fileNames = new File(DATA_DIRECTORY).list((directory, name) -> name.endsWith(DATA_SUFFIX));
+        if (fileNames == null) {
+            return new String[0];
+        }
+        Arrays.sort(fileNames);
+        String[] paths = new String[fileNames.length];
+        for (int i = 0; i < fileNames.length; i++) {
+            paths[i] = DATA_DIRECTORY + "/" + fileNames[i];
+        }
+        return paths;
+    }
+
+    /**
+     * Виконує всі операції над файлом.
+     *
+     * @param searchText Значення для пошуку або {@code null}, щоб шукати перше значення файлу
+     * @throws IllegalArgumentException Якщо тип файлу невідомий або значення некоректне
+     */
+    public void run(String searchText) {
+        String[] lines = DataFileHandler.loadValueLines(filePath);
+        System.out.println("📄 " + filePath + " (тип " + typeName + ", значень: " + lines.length + ")");
+        if (lines.length == 0) {
+            System.out.println("Файл порожній або не прочитаний.");
+            return;
+        }
+        String valueToSearch = searchText != null ? searchText.trim() : lines[0];
+
+        if (codec != null) {
+            runEncoded(lines, valueToSearch);
+        } else if ("String".equals(typeName)) {
+            runStrings(lines, valueToSearch);
+        } else {
+            throw new IllegalArgumentException("Невідомий тип файлу даних: " + typeName);
+        }
+    }
+
+    /**
+     * Операції над значеннями, перетвореними на ключі long.
+     */
+    private void runEncoded(String[] lines, String valueToSearch) {
+        long searchKey = codec.encode(valueToSearch);
+        long[] keys = PerformanceTracker.measure(typeName, OperationType.CONSTRUCTION,
+                "перетворення значень " + typeName + " на ключі long", () -> {
+                    long[] encoded = new long[lines.length];
+                    for (int i = 0; i < lines.length; i++) {
+                        encoded[i] = codec.encode(lines[i]);
+                    }
+                    return encoded;
+                });
+
+        int unsortedPosition = PerformanceTracker.measureInt(typeName, OperationType.ARRAY_SEARCH,
+                "пошук у невпорядкованому масиві " + typeName, () -> {
+                    for (int i = 0; i < keys.length; i++) {
+                        if (keys[i] == searchKey) {
+                            return i;
+                        }
+                    }
+                    return -1;
+                });
+        printPosition(valueToSearch, unsortedPosition, "невпорядкованому масиві");
+
+        long[] minMax = PerformanceTracker.measure(typeName, OperationType.ARRAY_MIN_MAX,
+                "визначення мiнiмального i максимального значення " + typeName, () -> {
+                    long minKey = keys[0];
+                    long maxKey = keys[0];
+                    for (long key : keys) {
+                        if (key < minKey) {
+                            minKey = key;
+                        }
+                        if (key > maxKey) {
+                            maxKey = key;
+                        }
+                    }
+                    return new long[] { minKey, maxKey };
+                });
+        System.out.println("Найменше значення: " + codec.decode(minMax[0]));
+        System.out.println("Найбільше значення: " + codec.decode(minMax[1]));
+
+        long[] unsortedCopy = PerformanceTracker.isRepeated(OperationType.ARRAY_SORT) ? keys.clone() : null;
+        PerformanceTracker.measure(typeName, OperationType.ARRAY_SORT, "упорядкування масиву " + typeName,
+                () -> System.arraycopy(unsortedCopy, 0, keys, 0, keys.length),
+                () -> Arrays.sort(keys));
+
+        int sortedPosition = PerformanceTracker.measureInt(typeName, OperationType.ARRAY_SEARCH,
+                "пошук у впорядкованому масиві " + typeName, () -> firstPosition(keys, searchKey));
+        printPosition(valueToSearch, sortedPosition, "впорядкованому масиві");
+
+        String[] sortedLines = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sortedLines[i] = codec.decode(keys[i]);
+        }
+        DataFileHandler.writeLinesToFile(sortedLines, filePath + SORTED_SUFFIX);
+    }
+
+    /**
+     * Операції над рядками, для яких немає кодування в long зі збереженням порядку.
+     */
+    private void runStrings(String[] lines, String valueToSearch) {
+        int unsortedPosition = PerformanceTracker.measureInt(typeName, OperationType.ARRAY_SEARCH,
+                "пошук у невпорядкованому масиві String", () -> {
+                    for (int i = 0; i < lines.length; i++) {
+                        if (lines[i].equals(valueToSearch)) {
+                            return i;
+                        }
+                    }
+                    return -1;
+                });
+        printPosition(valueToSearch, unsortedPosition, "невпорядкованому масиві");
+
+        String[] minMax = PerformanceTracker.measure(typeName, OperationType.ARRAY_MIN_MAX,
+                "визначення мiнiмального i максимального значення String", () -> {
+                    String minValue = lines[0];
+                    String maxValue = lines[0];
+                    for (String line : lines) {
+                        if (line.compareTo(minValue) < 0) {
+                            minValue = line;
+                        }
+                        if (line.compareTo(maxValue) > 0) {
+                            maxValue = line;
+                        }
+                    }
+                    return new String[] { minValue, maxValue };
+                });
+        System.out.println("Найменше значення: " + minMax[0]);
+        System.out.println("Найбільше значення: " + minMax[1]);
+
+        String[] unsortedCopy = PerformanceTracker.isRepeated(OperationType.ARRAY_SORT) ? lines.clone() : null;
+        PerformanceTracker.measure(typeName, OperationType.ARRAY_SORT, "упорядкування масиву String",
+                () -> System.arraycopy(unsortedCopy, 0, lines, 0, lines.length),
+                () -> Arrays.sort(lines));
+
+        int sortedPosition = PerformanceTracker.measureInt(typeName, OperationType.ARRAY_SEARCH,
+                "пошук у впорядкованому масиві String", () -> firstPosition(lines, valueToSearch));
+        printPosition(valueToSearch, sortedPosition, "впорядкованому масиві");
+
+        DataFileHandler.writeLinesToFile(lines, filePath + SORTED_SUFFIX);
+    }
+
+    /**
+     * Повертає позицію першого входження ключа у впорядкованому масиві або -1.
+     */
+    private static int firstPosition(long[] sortedKeys, long key) {
+        int low = 0;
+        int high = sortedKeys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedKeys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low < sortedKeys.length && sortedKeys[low] == key ? low : -1;
+    }
+
+    /**
+     * Повертає позицію першого входження рядка у впорядкованому масиві або -1.
+     */
+    private static int firstPosition(String[] sortedLines, String value) {
+        int low = 0;
+        int high = sortedLines.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedLines[middle].compareTo(value) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low < sortedLines.length && sortedLines[low].equals(value) ? low : -1;
+    }
+
+    private static void printPosition(String value, int position, String location) {
+        if (position >= 0) {
+            System.out.println("Елемент '" + value + "' знайдено в " + location + " за позицією: " + position);
+        } else {
+            System.out.println("Елемент '" + value + "' відсутній в " + location + ".");
+        }
+    }
+}
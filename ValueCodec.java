@@ -0,0 +1,214 @@
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Перелік ValueCodec перетворює текстові значення файлів даних на ключі long і назад.
+ *
+ * <p>Кодування зберігає порядок: для будь-яких значень {@code a < b} виконується
+ * {@code encode(a) < encode(b)}. Тому дані будь-якого типу впорядковуються, шукаються
+ * та порівнюються як примітивні значення long, без створення об'єктів для кожного елемента:</p>
+ * <ul>
+ *   <li>цілі типи зберігаються без змін;</li>
+ *   <li>для float і double біти IEEE 754 від'ємних чисел інвертуються, щоб порядок бітів
+ *       збігався з числовим;</li>
+ *   <li>символ зберігається як кодова точка Unicode;</li>
+ *   <li>дата — як номер дня від епохи, час — як наносекунда доби, момент часу — як
+ *       наносекунда від епохи в UTC (діапазон 1677–2262 років).</li>
+ * </ul>
+ *
+ * <p>Тип файлу визначається за його назвою: {@code list/LocalDate.data} обробляється
+ * кодеком {@link #LOCAL_DATE}. Рядки ({@code String.data}) не мають кодування в long
+ * зі збереженням порядку й обробляються окремо (див. {@link TypedDataPipeline}).</p>
+ */
+public enum ValueCodec {
+    BYTE("byte") {
+        @Override
+        public long encode(String text) {
+            return Byte.parseByte(text);
+        }
+
+        @Override
+        public String decode(long key) {
+            return Long.toString(key);
+        }
+    },
+    SHORT("short") {
+        @Override
+        public long encode(String text) {
+            return Short.parseShort(text);
+        }
+
+        @Override
+        public String decode(long key) {
+            return Long.toString(key);
+        }
+    },
+    INT("int") {
+        @Override
+        public long encode(String text) {
+            return Integer.parseInt(text);
+        }
+
+        @Override
+        public String decode(long key) {
+            return Long.toString(key);
+        }
+    },
+    LONG("long") {
+        @Override
+        public long encode(String text) {
+            return Long.parseLong(text);
+        }
+
+        @Override
+        public String decode(long key) {
+            return Long.toString(key);
+        }
+    },
+    FLOAT("float") {
+        @Override
+        public long encode(String text) {
+            int bits = Float.floatToIntBits(Float.parseFloat(text));
+            return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+        }
+
+        @Override
+        public String decode(long key) {
+            int bits = (int) key;
+            return Float.toString(Float.intBitsToFloat(bits ^ ((bits >> 31) & Integer.MAX_VALUE)));
+        }
+    },
+    DOUBLE("double") {
+        @Override
+        public long encode(String text) {
+            long bits = Double.doubleToLongBits(Double.parseDouble(text));
+            return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+
+        @Override
+        public String decode(long key) {
+            return Double.toString(Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE)));
+        }
+    },
+    CHARACTER("Character") {
+        @Override
+        public long encode(String text) {
+            if (text.codePointCount(0, text.length()) != 1) {
+                throw new IllegalArgumentException("Очікується один символ: \"" + text + "\"");
+            }
+            return text.codePointAt(0);
+        }
+
+        @Override
+        public String decode(long key) {
+            return Character.toString((int) key);
+        }
+    },
+    LOCAL_DATE("LocalDate") {
+        @Override
+        public long encode(String text) {
+            return LocalDate.parse(text).toEpochDay();
+        }
+
+        @Override
+        public String decode(long key) {
+            return LocalDate.ofEpochDay(key).toString();
+        }
+    },
+    LOCAL_TIME("LocalTime") {
+        @Override
+        public long encode(String text) {
+            return LocalTime.parse(text).toNanoOfDay();
+        }
+
+        @Override
+        public String decode(long key) {
+            return DateTimeFormatter.ISO_LOCAL_TIME.format(LocalTime.ofNanoOfDay(key));
+        }
+    },
+    LOCAL_DATE_TIME("LocalDateTime") {
+        @Override
+        public long encode(String text) {
+            // значення з суфіксом Z є моментом часу в UTC, без нього — локальним часом, що трактується як UTC
+            Instant instant = text.endsWith("Z")
+                    ? Instant.parse(text)
+                    : LocalDateTime.parse(text).toInstant(ZoneOffset.UTC);
+            try {
+                return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Момент часу поза підтримуваним діапазоном: " + text);
+            }
+        }
+
+        @Override
+        public String decode(long key) {
+            return Instant.ofEpochSecond(Math.floorDiv(key, NANOS_PER_SECOND), Math.floorMod(key, NANOS_PER_SECOND))
+                    .toString();
+        }
+    };
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String typeName;
+
+    ValueCodec(String typeName) {
+        this.typeName = typeName;
+    }
+
+    /**
+     * @return Назва типу, що збігається з назвою файлу даних без розширення
+     */
+    public String typeName() {
+        return typeName;
+    }
+
+    /**
+     * Перетворює текстове значення на ключ зі збереженням порядку.
+     *
+     * @param text Значення без пробілів на початку та в кінці
+     * @return Ключ long
+     * @throws IllegalArgumentException Якщо значення некоректне (зокрема {@link NumberFormatException})
+     * @throws DateTimeParseException Якщо некоректна дата або час
+     */
+    public abstract long encode(String text);
+
+    /**
+     * Перетворює ключ назад на текстове значення.
+     *
+     * @param key Ключ, отриманий з {@link #encode(String)}
+     * @return Текстове значення
+     */
+    public abstract String decode(long key);
+
+    /**
+     * Визначає кодек за назвою файлу даних, наприклад {@code list/LocalTime.data}.
+     *
+     * @param filePath Шлях до файлу даних
+     * @return Кодек або {@code null}, якщо тип файлу не має кодування в long
+     */
+    public static ValueCodec forFile(String filePath) {
+        String typeName = typeNameOf(filePath);
+        for (ValueCodec codec : values()) {
+            if (codec.typeName.equals(typeName) || codec.typeName.toLowerCase(Locale.ROOT).equals(typeName)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param filePath Шлях до файлу даних
+     * @return Назва типу — назва файлу без каталогу та розширення {@code .data}
+     */
+    public static String typeNameOf(String filePath) {
+        String fileName = filePath.substring(Math.max(filePath.lastIndexOf('/'), filePath.lastIndexOf('\\')) + 1);
+        int extension = fileName.indexOf('.');
+        return extension < 0 ? fileName : fileName.substring(0, extension);
+    }
+}
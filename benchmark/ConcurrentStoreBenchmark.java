@@ -0,0 +1,357 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Клас ConcurrentStoreBenchmark вимірює, як пропускна здатність {@link ConcurrentIntStore}
+ * змінюється з кількістю потоків за різної частки операцій запису.
+ *
+ * <p>Кожен потік виконує змішане навантаження: з заданою ймовірністю додає або видаляє
+ * випадкове значення, інакше перевіряє наявність значення, а кожна шістнадцята операція
+ * читання запитує мінімум і максимум або кількість значень у невеликому діапазоні. Ключі
+ * вибираються з діапазону вдвічі більшого за початковий розмір сховища, тому приблизно
+ * половина пошуків успішна. Для порівняння вимірюється {@link TreeSet} під
+ * {@link ReentrantReadWriteLock} — найпростіший потокобезпечний варіант впорядкованої множини.</p>
+ *
+ * <p>Приклад використання (з кореня проєкту):</p>
+ * <pre>
+ * {@code
+ * javac -d out *.java benchmark/*.java
+ * java -cp out ConcurrentStoreBenchmark --threads=1,2,4,8 --write-percent=0,10,50 --size=100000
+ * }
+ * </pre>
+ */
+public class ConcurrentStoreBenchmark {
+    private static final long SEED = 20250101L;
+
+    private int warmupIterations = 2;
+    private int measurementIterations = 5;
+    private long iterationNanos = 500_000_000L;
+    private int size = 100_000;
+    private int[] threadCounts = defaultThreadCounts();
+    private int[] writePercents = { 0, 10, 50 };
+    private String[] implementations = { "store", "locked" };
+
+    /** Накопичувач результатів, що не дає JIT видалити обчислення. */
+    private static volatile long blackhole;
+
+    public static void main(String[] args) {
+        ConcurrentStoreBenchmark benchmark = new ConcurrentStoreBenchmark();
+        benchmark.parseOptions(args);
+        benchmark.runAll();
+    }
+
+    /**
+     * Розбирає параметри командного рядка у форматі {@code --назва=значення}.
+     *
+     * @param args Аргументи командного рядка
+     */
+    void parseOptions(String[] args) {
+        for (String argument : args) {
+            String[] parts = argument.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Невідомий параметр: " + argument);
+            }
+            switch (parts[0]) {
+                case "--threads":
+                    threadCounts = Arrays.stream(parts[1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--write-percent":
+                    writePercents = Arrays.stream(parts[1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--size":
+                    size = Integer.parseInt(parts[1]);
+                    break;
+                case "--impl":
+                    implementations = parts[1].split(",");
+                    break;
+                case "--warmup":
+                    warmupIterations = Integer.parseInt(parts[1]);
+                    break;
+                case "--iterations":
+                    measurementIterations = Integer.parseInt(parts[1]);
+                    break;
+                case "--time-ms":
+                    iterationNanos = Long.parseLong(parts[1]) * 1_000_000L;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Невідомий параметр: " + argument);
+            }
+        }
+    }
+
+    /**
+     * Запускає вимірювання для кожної комбінації параметрів та виводить таблицю результатів.
+     */
+    void runAll() {
+        System.out.printf(Locale.ROOT, "%-8s %8s %8s %16s %12s %18s %10s%n",
+                "impl", "threads", "write %", "thrpt (ops/s)", "± err", "ops/s на потік", "scaling");
+        for (String implementation : implementations) {
+            for (int writePercent : writePercents) {
+                double singleThreadThroughput = Double.NaN;
+                for (int threads : threadCounts) {
+                    double[] result = measure(implementation, threads, writePercent);
+                    if (Double.isNaN(singleThreadThroughput)) {
+                        singleThreadThroughput = result[0] / threads;
+                    }
+                    System.out.printf(Locale.ROOT, "%-8s %8d %8d %16.1f %12.1f %18.1f %9.2fx%n",
+                            implementation, threads, writePercent, result[0], result[1], result[0] / threads,
+                            result[0] / singleThreadThroughput);
+                }
+            }
+        }
+    }
+
+    /**
+     * Виконує ітерації розігріву та вимірювання для однієї комбінації параметрів.
+     *
+     * @return Середня пропускна здатність і її стандартне відхилення між ітераціями
+     */
+    private double[] measure(String implementation, int threads, int writePercent) {
+        Store store = createStore(implementation);
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(store, threads, writePercent, i);
+        }
+
+        double[] throughput = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            throughput[i] = runIteration(store, threads, writePercent, warmupIterations + i);
+        }
+
+        double mean = Arrays.stream(throughput).average().orElse(Double.NaN);
+        double variance = 0;
+        for (double value : throughput) {
+            variance += (value - mean) * (value - mean);
+        }
+        double standardDeviation = throughput.length > 1 ? Math.sqrt(variance / (throughput.length - 1)) : 0;
+        return new double[] { mean, standardDeviation };
+    }
+
+    /**
+     * Виконує одну ітерацію фіксованої тривалості всіма потоками одночасно.
+     *
+     * @return Сумарна кількість операцій усіх потоків за секунду
+     */
+    private double runIteration(Store store, int threads, int writePercent, int iteration) {
+        int keyRange = Math.max(size * 2, 2);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] operations = new long[threads * 16];
+        List<Thread> workers = new ArrayList<>(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            SplittableRandom random = new SplittableRandom(SEED ^ ((long) iteration << 32) ^ worker);
+            Thread thread = new Thread(() -> {
+                long count = 0;
+                long sink = 0;
+                ready.countDown();
+                awaitQuietly(start);
+                while (running.get()) {
+                    // перевірка прапорця раз на пакет, щоб не впливати на вимірювання
+                    for (int i = 0; i < 256; i++) {
+                        int key = random.nextInt(keyRange);
+                        int choice = random.nextInt(100);
+                        if (choice < writePercent) {
+                            sink += (choice & 1) == 0 ? (store.add(key) ? 1 : 0) : (store.remove(key) ? 1 : 0);
+                        } else if ((count & 15) != 15) {
+                            sink += store.contains(key) ? 1 : 0;
+                        } else if ((count & 16) == 0) {
+                            sink += store.minMax();
+                        } else {
+                            sink += store.countInRange(key, key + 64);
+                        }
+                        count++;
+                    }
+                }
+                // лічильники потоків рознесені на 16 елементів, щоб не ділити рядок кешу
+                operations[worker * 16] = count;
+                blackhole += sink;
+            }, "store-benchmark-" + worker);
+            workers.add(thread);
+            thread.start();
+        }
+
+        awaitQuietly(ready);
+        long startNanos = System.nanoTime();
+        start.countDown();
+        sleepQuietly(iterationNanos);
+        running.set(false);
+        for (Thread thread : workers) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        long totalOperations = 0;
+        for (int t = 0; t < threads; t++) {
+            totalOperations += operations[t * 16];
+        }
+        return totalOperations * 1e9 / elapsedNanos;
+    }
+
+    private Store createStore(String implementation) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] initialValues = new int[size];
+        for (int i = 0; i < size; i++) {
+            initialValues[i] = random.nextInt(Math.max(size * 2, 2));
+        }
+        switch (implementation) {
+            case "store":
+                return new StripedStore(ConcurrentIntStore.of(initialValues));
+            case "locked":
+                return new LockedTreeSetStore(initialValues);
+            default:
+                throw new IllegalArgumentException("Невідома реалізація: " + implementation);
+        }
+    }
+
+    private static int[] defaultThreadCounts() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < processors * 2; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(processors * 2);
+        return counts.stream().distinct().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000L, (int) (nanos % 1_000_000L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Операції, що вимірюються для кожної реалізації.
+     */
+    interface Store {
+        boolean add(int value);
+
+        boolean remove(int value);
+
+        boolean contains(int value);
+
+        int minMax();
+
+        int countInRange(int from, int to);
+    }
+
+    static final class StripedStore implements Store {
+        private final ConcurrentIntStore store;
+
+        StripedStore(ConcurrentIntStore store) {
+            this.store = store;
+        }
+
+        @Override
+        public boolean add(int value) {
+            return store.add(value);
+        }
+
+        @Override
+        public boolean remove(int value) {
+            return store.remove(value);
+        }
+
+        @Override
+        public boolean contains(int value) {
+            return store.contains(value);
+        }
+
+        @Override
+        public int minMax() {
+            try {
+                return store.min() ^ store.max();
+            } catch (IllegalStateException emptyStore) {
+                return 0;
+            }
+        }
+
+        @Override
+        public int countInRange(int from, int to) {
+            return store.countInRange(from, to);
+        }
+    }
+
+    static final class LockedTreeSetStore implements Store {
+        private final TreeSet<Integer> values = new TreeSet<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        LockedTreeSetStore(int[] initialValues) {
+            for (int value : initialValues) {
+                values.add(value);
+            }
+        }
+
+        @Override
+        public boolean add(int value) {
+            lock.writeLock().lock();
+            try {
+                return values.add(value);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean remove(int value) {
+            lock.writeLock().lock();
+            try {
+                return values.remove(value);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean contains(int value) {
+            lock.readLock().lock();
+            try {
+                return values.contains(value);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public int minMax() {
+            lock.readLock().lock();
+            try {
+                return values.isEmpty() ? 0 : values.first() ^ values.last();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public int countInRange(int from, int to) {
+            lock.readLock().lock();
+            try {
+                return values.subSet(from, true, to, true).size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
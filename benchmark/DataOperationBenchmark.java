@@ -0,0 +1,436 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Клас DataOperationBenchmark вимірює продуктивність операцій класів List, Queue та Set.
+ *
+ * <p>Набір тестів відтворює схему JMH: кожен тест має ітерації розігріву та вимірювання
+ * фіксованої тривалості, результати передаються в "чорну діру", щоб JIT не відкидав
+ * обчислення, а для операцій, що змінюють дані (сортування, poll), підготовка копії
+ * виконується поза вимірюваним інтервалом. Дані генеруються з фіксованим зерном, тому
+ * результати відтворювані між запусками.</p>
+ *
+ * <p>Параметри тестів: розмір даних, розподіл значень та представлення (Integer або int).</p>
+ *
+ * <p>Приклад використання (з кореня проєкту):</p>
+ * <pre>
+ * {@code
+ * javac -d out *.java benchmark/*.java
+ * java -cp out DataOperationBenchmark --sizes=1000,100000 --distributions=uniform,sorted --filter=Set
+ * }
+ * </pre>
+ */
+public class DataOperationBenchmark {
+    private static final long SEED = 20250101L;
+
+    private int warmupIterations = 3;
+    private int measurementIterations = 5;
+    private long iterationNanos = 500_000_000L;
+    private int[] sizes = { 1_000, 100_000, 1_000_000 };
+    private String[] distributions = { "uniform", "sorted", "reversed", "duplicates" };
+    private String[] representations = { "boxed", "primitive" };
+    private Pattern filter = Pattern.compile(".*");
+
+    /** Накопичувач результатів, що не дає JIT видалити обчислення. */
+    private static volatile long blackhole;
+
+    public static void main(String[] args) {
+        DataOperationBenchmark benchmark = new DataOperationBenchmark();
+        benchmark.parseOptions(args);
+        benchmark.runAll();
+    }
+
+    /**
+     * Розбирає параметри командного рядка у форматі {@code --назва=значення}.
+     *
+     * @param args Аргументи командного рядка
+     */
+    void parseOptions(String[] args) {
+        for (String argument : args) {
+            String[] parts = argument.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Невідомий параметр: " + argument);
+            }
+            switch (parts[0]) {
+                case "--sizes":
+                    sizes = Arrays.stream(parts[1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--distributions":
+                    distributions = parts[1].split(",");
+                    break;
+                case "--repr":
+                    representations = parts[1].split(",");
+                    break;
+                case "--warmup":
+                    warmupIterations = Integer.parseInt(parts[1]);
+                    break;
+                case "--iterations":
+                    measurementIterations = Integer.parseInt(parts[1]);
+                    break;
+                case "--time-ms":
+                    iterationNanos = Long.parseLong(parts[1]) * 1_000_000L;
+                    break;
+                case "--filter":
+                    filter = Pattern.compile(parts[1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Невідомий параметр: " + argument);
+            }
+        }
+    }
+
+    /**
+     * Запускає всі тести для кожної комбінації параметрів та виводить таблицю результатів.
+     */
+    void runAll() {
+        System.out.printf(Locale.ROOT, "%-32s %10s %-11s %-10s %16s %12s %18s%n",
+                "Benchmark", "size", "dist", "repr", "thrpt (ops/s)", "± err", "avgt (ns/op)");
+        for (int size : sizes) {
+            for (String distribution : distributions) {
+                int[] data = generate(size, distribution);
+                int searchValue = data[new Random(SEED ^ size).nextInt(size)];
+                for (String representation : representations) {
+                    Map<String, BenchmarkCase> cases = "primitive".equals(representation)
+                            ? primitiveCases(data, searchValue)
+                            : boxedCases(data, searchValue);
+                    for (Map.Entry<String, BenchmarkCase> benchmarkCase : cases.entrySet()) {
+                        if (!filter.matcher(benchmarkCase.getKey()).find()) {
+                            continue;
+                        }
+                        Result result = measure(benchmarkCase.getValue());
+                        System.out.printf(Locale.ROOT, "%-32s %10d %-11s %-10s %16.1f %12.1f %18.1f%n",
+                                benchmarkCase.getKey(), size, distribution, representation,
+                                result.opsPerSecond, result.opsPerSecondError, result.nanosPerOp);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Формує тести для представлення даних об'єктами Integer (як у класах обробки).
+     */
+    private Map<String, BenchmarkCase> boxedCases(int[] data, int searchValue) {
+        Integer[] boxed = Arrays.stream(data).boxed().toArray(Integer[]::new);
+        Integer[] sortedBoxed = boxed.clone();
+        Arrays.sort(sortedBoxed);
+        Integer searchBoxed = searchValue;
+        List<Integer> sortedList = new ArrayList<>(Arrays.asList(sortedBoxed));
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Arrays.asList(boxed));
+        Set<Integer> set = new LinkedHashSet<>(Arrays.asList(boxed));
+
+        Map<String, BenchmarkCase> cases = new LinkedHashMap<>();
+        Integer[][] sortCopy = new Integer[1][];
+        cases.put("List.performArraySorting", BenchmarkCase.perInvocation(
+                () -> sortCopy[0] = boxed.clone(),
+                () -> { Arrays.sort(sortCopy[0]); return sortCopy[0].length; }));
+        cases.put("List.findInArray", BenchmarkCase.batched(() -> Arrays.binarySearch(sortedBoxed, searchBoxed)));
+        cases.put("List.locateMinMaxInArray", BenchmarkCase.batched(() -> minMax(boxed)));
+        List<List<Integer>> listCopy = new ArrayList<>(1);
+        listCopy.add(null);
+        cases.put("List.sortList", BenchmarkCase.perInvocation(
+                () -> listCopy.set(0, new ArrayList<>(Arrays.asList(boxed))),
+                () -> { Collections.sort(listCopy.get(0)); return listCopy.get(0).size(); }));
+        cases.put("List.findInList", BenchmarkCase.batched(() -> Collections.binarySearch(sortedList, searchBoxed)));
+        cases.put("List.locateMinMaxInList",
+                BenchmarkCase.batched(() -> Collections.min(sortedList) ^ Collections.max(sortedList)));
+        cases.put("List.statistics", BenchmarkCase.batched(() -> {
+            IntStatistics statistics = IntStatistics.ofBoxed(sortedList);
+            return statistics.min() ^ statistics.max();
+        }));
+
+        cases.put("Queue.construct", BenchmarkCase.batched(() -> new PriorityQueue<>(Arrays.asList(boxed)).size()));
+        cases.put("Queue.findInQueue", BenchmarkCase.batched(() -> queue.contains(searchBoxed) ? 1 : 0));
+        cases.put("Queue.locateMinMaxInQueue",
+                BenchmarkCase.batched(() -> Collections.min(queue) ^ Collections.max(queue)));
+        List<PriorityQueue<Integer>> queueCopy = new ArrayList<>(1);
+        queueCopy.add(null);
+        cases.put("Queue.performQueueOperations", BenchmarkCase.perInvocation(
+                () -> queueCopy.set(0, new PriorityQueue<>(queue)),
+                () -> queueCopy.get(0).peek() ^ queueCopy.get(0).poll() ^ queueCopy.get(0).peek()));
+
+        cases.put("Set.construct", BenchmarkCase.batched(() -> new LinkedHashSet<>(Arrays.asList(boxed)).size()));
+        cases.put("Set.findInSet", BenchmarkCase.batched(() -> set.contains(searchBoxed) ? 1 : 0));
+        cases.put("Set.locateMinMaxInSet", BenchmarkCase.batched(() -> Collections.min(set) ^ Collections.max(set)));
+        cases.put("Set.analyzeArrayAndSet", BenchmarkCase.batched(() -> {
+            int present = 0;
+            for (Integer element : boxed) {
+                if (set.contains(element)) {
+                    present++;
+                }
+            }
+            return present;
+        }));
+        return cases;
+    }
+
+    /**
+     * Формує тести для представлення даних масивом int.
+     */
+    private Map<String, BenchmarkCase> primitiveCases(int[] data, int searchValue) {
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+
+        Map<String, BenchmarkCase> cases = new LinkedHashMap<>();
+        int[][] sortCopy = new int[1][];
+        cases.put("Primitive.performArraySorting", BenchmarkCase.perInvocation(
+                () -> sortCopy[0] = data.clone(),
+                () -> { Arrays.sort(sortCopy[0]); return sortCopy[0].length; }));
+        for (SortEngine engine : SortEngine.values()) {
+            if (engine == SortEngine.AUTO || engine == SortEngine.JDK) {
+                continue;
+            }
+            cases.put("Primitive.sort." + engine.name().toLowerCase(Locale.ROOT), BenchmarkCase.perInvocation(
+                    () -> sortCopy[0] = data.clone(),
+                    () -> { engine.sort(sortCopy[0]); return sortCopy[0].length; }));
+        }
+        cases.put("Primitive.findInArray", BenchmarkCase.batched(() -> Arrays.binarySearch(sorted, searchValue)));
+        cases.put("Primitive.locateMinMaxInArray", BenchmarkCase.batched(() -> minMax(data)));
+        cases.put("Primitive.statistics", BenchmarkCase.batched(() -> {
+            IntStatistics statistics = IntStatistics.of(data, 0, data.length);
+            return statistics.min() ^ statistics.max() ^ (int) statistics.sum();
+        }));
+        cases.put("Primitive.statisticsParallel", BenchmarkCase.batched(() -> {
+            IntStatistics statistics = IntStatistics.parallelOf(data);
+            return statistics.min() ^ statistics.max() ^ (int) statistics.sum();
+        }));
+        byte[] textBuffer = new byte[data.length * 12];
+        cases.put("Primitive.formatText", BenchmarkCase.batched(() -> {
+            int length = 0;
+            for (int value : data) {
+                length = IntTextFileWriter.formatLine(value, textBuffer, length);
+            }
+            return length;
+        }));
+        cases.put("Primitive.formatTextToString", BenchmarkCase.batched(() -> {
+            int length = 0;
+            for (int value : data) {
+                length += Integer.toString(value).length() + 1;
+            }
+            return length;
+        }));
+
+        IntMinMaxHeap heap = IntMinMaxHeap.of(data, true);
+        IntMinMaxHeap unindexedHeap = IntMinMaxHeap.of(data, false);
+        cases.put("IntMinMaxHeap.construct", BenchmarkCase.batched(() -> IntMinMaxHeap.of(data, false).size()));
+        cases.put("IntMinMaxHeap.findInQueue", BenchmarkCase.batched(() -> heap.contains(searchValue) ? 1 : 0));
+        cases.put("IntMinMaxHeap.scanQueue",
+                BenchmarkCase.batched(() -> unindexedHeap.contains(searchValue) ? 1 : 0));
+        cases.put("IntMinMaxHeap.locateMinMaxInQueue", BenchmarkCase.batched(() -> heap.peekMin() ^ heap.peekMax()));
+        IntMinMaxHeap[] heapCopy = new IntMinMaxHeap[1];
+        cases.put("IntMinMaxHeap.pollBothEnds", BenchmarkCase.perInvocation(
+                () -> heapCopy[0] = IntMinMaxHeap.of(data, false),
+                () -> heapCopy[0].pollMin() ^ heapCopy[0].pollMax()));
+
+        IntHashSet set = IntHashSet.of(data);
+        cases.put("IntHashSet.construct", BenchmarkCase.batched(() -> IntHashSet.of(data).size()));
+        cases.put("IntHashSet.findInSet", BenchmarkCase.batched(() -> set.contains(searchValue) ? 1 : 0));
+        cases.put("IntHashSet.locateMinMaxInSet", BenchmarkCase.batched(() -> set.min() ^ set.max()));
+        cases.put("IntHashSet.analyzeArrayAndSet", BenchmarkCase.batched(() -> {
+            int present = 0;
+            for (int element : data) {
+                if (set.contains(element)) {
+                    present++;
+                }
+            }
+            return present;
+        }));
+
+        IntBitmapSet bitmapSet = IntBitmapSet.of(data);
+        cases.put("IntBitmapSet.construct", BenchmarkCase.batched(() -> (int) IntBitmapSet.of(data).cardinality()));
+        cases.put("IntBitmapSet.findInSet", BenchmarkCase.batched(() -> bitmapSet.contains(searchValue) ? 1 : 0));
+        cases.put("IntBitmapSet.locateMinMaxInSet", BenchmarkCase.batched(() -> bitmapSet.min() ^ bitmapSet.max()));
+        cases.put("IntBitmapSet.analyzeArrayAndSet", BenchmarkCase.batched(() -> {
+            int present = 0;
+            for (int element : data) {
+                if (bitmapSet.contains(element)) {
+                    present++;
+                }
+            }
+            return present;
+        }));
+        return cases;
+    }
+
+    /**
+     * Виконує ітерації розігріву та вимірювання одного тесту.
+     */
+    private Result measure(BenchmarkCase benchmarkCase) {
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(benchmarkCase);
+        }
+
+        double[] iterationNanosPerOp = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            long[] timing = runIteration(benchmarkCase);
+            iterationNanosPerOp[i] = (double) timing[0] / timing[1];
+        }
+
+        double meanNanos = Arrays.stream(iterationNanosPerOp).average().orElse(Double.NaN);
+        double[] iterationThroughput = Arrays.stream(iterationNanosPerOp).map(nanos -> 1e9 / nanos).toArray();
+        double meanThroughput = Arrays.stream(iterationThroughput).average().orElse(Double.NaN);
+        double variance = 0;
+        for (double throughput : iterationThroughput) {
+            variance += (throughput - meanThroughput) * (throughput - meanThroughput);
+        }
+        double standardDeviation = iterationThroughput.length > 1 ? Math.sqrt(variance / (iterationThroughput.length - 1)) : 0;
+        return new Result(meanThroughput, standardDeviation, meanNanos);
+    }
+
+    /**
+     * Виконує одну ітерацію тесту фіксованої тривалості.
+     *
+     * @return Масив з двох елементів: сумарний виміряний час у наносекундах та кількість операцій
+     */
+    private long[] runIteration(BenchmarkCase benchmarkCase) {
+        long measuredNanos = 0;
+        long operations = 0;
+        long sink = 0;
+        long iterationEnd = System.nanoTime() + iterationNanos;
+
+        if (benchmarkCase.setup == null) {
+            // пакетне вимірювання: час операції значно менший за точність таймера
+            int batchSize = 1;
+            while (System.nanoTime() < iterationEnd) {
+                long start = System.nanoTime();
+                for (int i = 0; i < batchSize; i++) {
+                    sink += benchmarkCase.operation.getAsInt();
+                }
+                long batchNanos = System.nanoTime() - start;
+                measuredNanos += batchNanos;
+                operations += batchSize;
+                if (batchNanos < 1_000_000L) {
+                    batchSize = Math.min(batchSize * 2, 1 << 16);
+                }
+            }
+        } else {
+            // вимірювання кожного виклику окремо: підготовка даних не входить у виміряний час
+            while (System.nanoTime() < iterationEnd || operations == 0) {
+                benchmarkCase.setup.run();
+                long start = System.nanoTime();
+                sink += benchmarkCase.operation.getAsInt();
+                measuredNanos += System.nanoTime() - start;
+                operations++;
+            }
+        }
+
+        blackhole += sink;
+        return new long[] { measuredNanos, operations };
+    }
+
+    /**
+     * Генерує дані заданого розміру та розподілу з фіксованим зерном.
+     */
+    static int[] generate(int size, String distribution) {
+        Random random = new Random(SEED ^ size);
+        int[] data = new int[size];
+        switch (distribution) {
+            case "uniform":
+                for (int i = 0; i < size; i++) {
+                    data[i] = random.nextInt();
+                }
+                break;
+            case "sorted":
+                for (int i = 0; i < size; i++) {
+                    data[i] = random.nextInt();
+                }
+                Arrays.sort(data);
+                break;
+            case "reversed":
+                for (int i = 0; i < size; i++) {
+                    data[i] = random.nextInt();
+                }
+                Arrays.sort(data);
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    int swap = data[i];
+                    data[i] = data[j];
+                    data[j] = swap;
+                }
+                break;
+            case "duplicates":
+                int distinct = Math.max(1, size / 100);
+                for (int i = 0; i < size; i++) {
+                    data[i] = random.nextInt(distinct) * 7919;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Невідомий розподіл: " + distribution);
+        }
+        return data;
+    }
+
+    private static int minMax(Integer[] values) {
+        Integer minValue = values[0];
+        Integer maxValue = values[0];
+        for (Integer value : values) {
+            if (value < minValue) {
+                minValue = value;
+            }
+            if (value > maxValue) {
+                maxValue = value;
+            }
+        }
+        return minValue ^ maxValue;
+    }
+
+    private static int minMax(int[] values) {
+        int minValue = values[0];
+        int maxValue = values[0];
+        for (int value : values) {
+            if (value < minValue) {
+                minValue = value;
+            }
+            if (value > maxValue) {
+                maxValue = value;
+            }
+        }
+        return minValue ^ maxValue;
+    }
+
+    /**
+     * Опис одного тесту: необов'язкова підготовка перед кожним викликом та вимірювана операція.
+     */
+    static final class BenchmarkCase {
+        final Runnable setup;
+        final IntSupplier operation;
+
+        private BenchmarkCase(Runnable setup, IntSupplier operation) {
+            this.setup = setup;
+            this.operation = operation;
+        }
+
+        static BenchmarkCase batched(IntSupplier operation) {
+            return new BenchmarkCase(null, operation);
+        }
+
+        static BenchmarkCase perInvocation(Runnable setup, IntSupplier operation) {
+            return new BenchmarkCase(setup, operation);
+        }
+    }
+
+    /**
+     * Результат тесту: середня пропускна здатність з похибкою та середній час операції.
+     */
+    static final class Result {
+        final double opsPerSecond;
+        final double opsPerSecondError;
+        final double nanosPerOp;
+
+        Result(double opsPerSecond, double opsPerSecondError, double nanosPerOp) {
+            this.opsPerSecond = opsPerSecond;
+            this.opsPerSecondError = opsPerSecondError;
+            this.nanosPerOp = nanosPerOp;
+        }
+    }
+}